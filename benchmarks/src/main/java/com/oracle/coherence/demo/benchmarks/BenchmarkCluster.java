@@ -0,0 +1,73 @@
+/*
+ * File: BenchmarkCluster.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.application.Utilities;
+
+import com.tangosol.net.Coherence;
+
+/**
+ * Helpers to run the benchmarks against a local, single member cluster
+ * running in the benchmark JVM.
+ */
+public final class BenchmarkCluster {
+
+    /**
+     * Instances not allowed.
+     */
+    private BenchmarkCluster() {
+        throw new IllegalStateException("illegal instantiation");
+    }
+
+    /**
+     * Start a storage enabled cluster member in this JVM, using
+     * {@code benchmark-cache-config.xml}.
+     */
+    public static void start() {
+        System.setProperty("coherence.cacheconfig", "benchmark-cache-config.xml");
+        System.setProperty("coherence.cluster", "coherence-demo-benchmarks");
+        System.setProperty("coherence.wka", "127.0.0.1");
+        System.setProperty("coherence.localhost", "127.0.0.1");
+        System.setProperty("coherence.ttl", "0");
+        System.setProperty("coherence.log.level", System.getProperty("coherence.log.level", "2"));
+
+        Coherence.clusterMember().start().join();
+
+        // the trade summaries must exist before any trades are written
+        Utilities.getTradeSummaryCache();
+    }
+
+    /**
+     * Start the local cluster and load the given number of trades.
+     *
+     * @param count  the number of trades to create
+     */
+    public static void startWithTrades(int count) {
+        start();
+        Utilities.populatePrices();
+        Utilities.createPositions(null, count);
+    }
+
+    /**
+     * Stop the local cluster.
+     */
+    public static void stop() {
+        Coherence.closeAll();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * File: BenchmarkDatabase.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Helpers to populate the embedded Derby database used by the cache store benchmarks,
+ * which is defined by the {@value #UNIT_NAME} persistence unit.
+ */
+public final class BenchmarkDatabase {
+
+    /**
+     * The name of the persistence unit for the benchmarks.
+     */
+    public static final String UNIT_NAME = "benchmark";
+
+    /**
+     * The number of trades inserted by each transaction.
+     */
+    private static final int BATCH_SIZE = 10_000;
+
+    /**
+     * The symbols of the trades.
+     */
+    private static final String[] SYMBOLS = {"ORCL", "MSFT", "GOOG", "AAPL", "NFLX", "DELL"};
+
+    /**
+     * Instances not allowed.
+     */
+    private BenchmarkDatabase() {
+        throw new IllegalStateException("illegal instantiation");
+    }
+
+    /**
+     * Insert the given number of trades into the database.
+     * <p>
+     * The tables are created when the cache loader or store being benchmarked is
+     * created, so this must be called afterwards.
+     *
+     * @param count  the number of trades to insert
+     *
+     * @return the inserted trades, in the order they were inserted
+     */
+    public static Map<TradeId, Trade> insertTrades(int count) {
+        EntityManagerFactory emf    = Persistence.createEntityManagerFactory(UNIT_NAME,
+                                          Map.of("eclipselink.ddl-generation", "none"));
+        Map<TradeId, Trade>  trades = new LinkedHashMap<>(count);
+        Random               random = new Random(42);
+
+        try {
+            for (int i = 0; i < count; i += BATCH_SIZE) {
+                EntityManager em = emf.createEntityManager();
+
+                try {
+                    em.getTransaction().begin();
+
+                    for (int j = i; j < Math.min(i + BATCH_SIZE, count); j++) {
+                        Trade trade = createTrade(random);
+
+                        em.persist(trade);
+                        trades.put(new TradeId(trade.getSymbol(), trade.getId()), trade);
+                    }
+
+                    em.getTransaction().commit();
+                }
+                finally {
+                    em.close();
+                }
+            }
+        }
+        finally {
+            emf.close();
+        }
+
+        return trades;
+    }
+
+    /**
+     * Create a trade that has not been inserted into the database.
+     *
+     * @param random  the {@link Random} to create the trade
+     *
+     * @return the new trade
+     */
+    public static Trade createTrade(Random random) {
+        return new Trade(SYMBOLS[random.nextInt(SYMBOLS.length)], random.nextInt(1000) + 1, 20 + random.nextInt(100));
+    }
+}
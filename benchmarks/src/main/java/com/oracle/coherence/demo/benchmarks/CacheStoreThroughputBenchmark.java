@@ -0,0 +1,176 @@
+/*
+ * File: CacheStoreThroughputBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.cachestore.JdbcCacheStore;
+import com.oracle.coherence.demo.cachestore.JpaCacheStore;
+
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.management.MBeanServerProxy;
+import com.tangosol.net.management.Registry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the end to end write-behind throughput of the {@link JpaCacheStore} and
+ * the {@link JdbcCacheStore}, against an embedded Derby database.
+ * <p>
+ * Each invocation puts new trades into a cache configured for write-behind, and
+ * completes when the cache store has written all of them, as reported by the
+ * cache store statistics MBean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CacheStoreThroughputBenchmark {
+
+    /**
+     * The number of trades put in each invocation.
+     */
+    @Param({"100000"})
+    public int tradeCount;
+
+    /**
+     * The cache store, which is the prefix of the cache name.
+     */
+    @Param({"jpa", "jdbc"})
+    public String store;
+
+    /**
+     * The write-behind cache.
+     */
+    private NamedCache<TradeId, Trade> cache;
+
+    /**
+     * The name of the cache store statistics MBean.
+     */
+    private String mbeanName;
+
+    /**
+     * The MBean server used to read the cache store statistics.
+     */
+    private MBeanServerProxy mbeanServer;
+
+    /**
+     * The trades to put in the next invocation.
+     */
+    private Map<TradeId, Trade> trades;
+
+    /**
+     * The random number generator for new trades.
+     */
+    private final Random random = new Random(7);
+
+    /**
+     * Start the cluster with management enabled, so the cache store statistics are registered.
+     */
+    @Setup
+    public void setup() {
+        System.setProperty("coherence.management", "all");
+
+        BenchmarkCluster.start();
+
+        cache = CacheFactory.getCache(store + "-Trade");
+
+        // the cache store is created, and registers its statistics, when the cache is created
+        Registry registry = CacheFactory.getCluster().getManagement();
+
+        mbeanName = registry.ensureGlobalName("type=CacheStore,name=Trade");
+        mbeanServer = registry.getMBeanServerProxy();
+    }
+
+    /**
+     * Create the trades for the next invocation, and remove the trades of the previous
+     * invocation from the cache, which does not remove them from the database.
+     */
+    @Setup(Level.Invocation)
+    public void createTrades() {
+        cache.truncate();
+
+        trades = new HashMap<>(tradeCount);
+
+        for (int i = 0; i < tradeCount; i++) {
+            Trade trade = BenchmarkDatabase.createTrade(random);
+
+            trades.put(new TradeId(trade.getSymbol(), trade.getId()), trade);
+        }
+    }
+
+    /**
+     * Print the flush latency statistics, and stop the cluster.
+     */
+    @TearDown
+    public void tearDown() {
+        System.out.println();
+        System.out.println(mbeanServer.getAttributes(mbeanName, attribute -> true));
+
+        BenchmarkCluster.stop();
+    }
+
+    /**
+     * Put the trades and wait until the cache store has written them all.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Benchmark
+    public void writeBehind() throws InterruptedException {
+        long expected = getStoreEntries() + tradeCount;
+
+        cache.putAll(trades);
+
+        while (getStoreEntries() < expected) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Obtain the number of entries written by the cache store.
+     *
+     * @return the number of entries written
+     */
+    private long getStoreEntries() {
+        return ((Number) mbeanServer.getAttribute(mbeanName, "StoreEntries")).longValue();
+    }
+}
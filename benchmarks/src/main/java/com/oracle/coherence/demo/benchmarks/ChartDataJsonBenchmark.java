@@ -0,0 +1,142 @@
+/*
+ * File: ChartDataJsonBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.fasterxml.jackson.jakarta.rs.json.JacksonXmlBindJsonProvider;
+
+import com.oracle.coherence.demo.application.ChartDataPublisher;
+import com.oracle.coherence.demo.application.ChartDataPublisher.ChartDataUpdate;
+
+import com.oracle.coherence.demo.model.ChartData;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.lang.annotation.Annotation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON marshalling of the {@link ChartData}, and of the complete
+ * {@link ChartDataUpdate} sent to new dashboard subscribers, through the Jackson
+ * JAX-RS provider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ChartDataJsonBenchmark {
+
+    /**
+     * The Jackson provider, which supports the JAXB annotations of the model.
+     */
+    private final JacksonXmlBindJsonProvider provider = new JacksonXmlBindJsonProvider();
+
+    /**
+     * The buffer the JSON is written to.
+     */
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+
+    /**
+     * The {@link ChartData} to marshal.
+     */
+    private ChartData chartData;
+
+    /**
+     * The complete {@link ChartDataUpdate} to marshal.
+     */
+    private ChartDataUpdate chartDataUpdate;
+
+    /**
+     * Start the cluster with trades and create the {@link ChartData}.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkCluster.startWithTrades(10_000);
+
+        chartData = ChartDataPublisher.createChartData(false);
+        chartDataUpdate = new ChartDataUpdate(chartData, null, false);
+    }
+
+    /**
+     * Stop the cluster.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkCluster.stop();
+    }
+
+    /**
+     * Marshal the {@link ChartData}.
+     *
+     * @return the number of bytes written
+     *
+     * @throws IOException if the JSON could not be written
+     */
+    @Benchmark
+    public int chartData() throws IOException {
+        return write(chartData, ChartData.class);
+    }
+
+    /**
+     * Marshal the {@link ChartDataUpdate}.
+     *
+     * @return the number of bytes written
+     *
+     * @throws IOException if the JSON could not be written
+     */
+    @Benchmark
+    public int chartDataUpdate() throws IOException {
+        return write(chartDataUpdate, ChartDataUpdate.class);
+    }
+
+    /**
+     * Write a value as JSON using the provider.
+     *
+     * @param value  the value
+     * @param type   the type of the value
+     *
+     * @return the number of bytes written
+     *
+     * @throws IOException if the JSON could not be written
+     */
+    private int write(Object value, Class<?> type) throws IOException {
+        out.reset();
+        provider.writeTo(value, type, type, new Annotation[0], MediaType.APPLICATION_JSON_TYPE,
+                         new MultivaluedHashMap<>(), out);
+        return out.size();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * File: CreatePositionsBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.application.TradeLoader;
+import com.oracle.coherence.demo.application.Utilities;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Utilities#createPositions(String, int)} loading trades into an
+ * empty cache, for different {@link TradeLoader} batch sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CreatePositionsBenchmark {
+
+    /**
+     * The number of trades to create.
+     */
+    @Param({"100000", "1000000"})
+    public int tradeCount;
+
+    /**
+     * The number of trades in each batch.
+     */
+    @Param({"1000", "10000"})
+    public int batchSize;
+
+    /**
+     * Start the cluster and create the prices.
+     */
+    @Setup
+    public void setup() {
+        System.setProperty(TradeLoader.BATCH_SIZE_PROPERTY, String.valueOf(batchSize));
+
+        BenchmarkCluster.start();
+        Utilities.populatePrices();
+    }
+
+    /**
+     * Remove the trades created by the previous invocation.
+     */
+    @Setup(Level.Invocation)
+    public void clear() {
+        Utilities.getTradesCache().truncate();
+        Utilities.getTradeSummaryCache().truncate();
+    }
+
+    /**
+     * Stop the cluster.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkCluster.stop();
+    }
+
+    /**
+     * Create the trades.
+     */
+    @Benchmark
+    public void createPositions() {
+        Utilities.createPositions(null, tradeCount);
+    }
+}
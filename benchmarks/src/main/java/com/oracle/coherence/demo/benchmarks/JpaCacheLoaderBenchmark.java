@@ -0,0 +1,116 @@
+/*
+ * File: JpaCacheLoaderBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.cachestore.JpaCacheLoader;
+
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to warm a cache by loading every trade from an embedded Derby
+ * database, comparing the chunked, parallel {@link JpaCacheLoader} with the
+ * {@link PerKeyJpaCacheLoader}, which loads one key at a time.
+ * <p>
+ * The keys are loaded using {@code loadAll} in batches of {@code loadAllSize} keys,
+ * as a cache would for a read-through of many keys. The shared JPA cache is disabled,
+ * so every iteration reads from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class JpaCacheLoaderBenchmark {
+
+    /**
+     * The number of trades in the database.
+     */
+    @Param({"1000000"})
+    public int rowCount;
+
+    /**
+     * The number of keys passed to each {@code loadAll}.
+     */
+    @Param({"10000"})
+    public int loadAllSize;
+
+    /**
+     * The loader to benchmark, either {@code perKey} or {@code chunked}.
+     */
+    @Param({"perKey", "chunked"})
+    public String loader;
+
+    /**
+     * The cache loader.
+     */
+    private JpaCacheLoader cacheLoader;
+
+    /**
+     * The keys of the trades in the database.
+     */
+    private List<TradeId> keys;
+
+    /**
+     * Create the cache loader and insert the trades.
+     */
+    @Setup
+    public void setup() {
+        // the cache loader creates the tables, so it must be created first
+        cacheLoader = "perKey".equals(loader)
+                      ? new PerKeyJpaCacheLoader("Trade", Trade.class.getName(), BenchmarkDatabase.UNIT_NAME)
+                      : new JpaCacheLoader("Trade", Trade.class.getName(), BenchmarkDatabase.UNIT_NAME);
+
+        keys = new ArrayList<>(BenchmarkDatabase.insertTrades(rowCount).keySet());
+    }
+
+    /**
+     * Load all the trades.
+     *
+     * @return the number of trades loaded
+     */
+    @Benchmark
+    public int loadAll() {
+        int loaded = 0;
+
+        for (int i = 0; i < keys.size(); i += loadAllSize) {
+            loaded += cacheLoader.loadAll(keys.subList(i, Math.min(i + loadAllSize, keys.size()))).size();
+        }
+
+        return loaded;
+    }
+}
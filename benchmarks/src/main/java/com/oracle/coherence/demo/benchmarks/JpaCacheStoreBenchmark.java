@@ -0,0 +1,212 @@
+/*
+ * File: JpaCacheStoreBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.cachestore.JpaCacheStore;
+
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a write-behind flush of the {@link JpaCacheStore} against an embedded
+ * Derby database, comparing the {@value JpaCacheStore#MODE_MERGE} and
+ * {@value JpaCacheStore#MODE_UPSERT} write modes.
+ * <p>
+ * Each {@code storeAll} writes a batch where half the trades already exist and half
+ * are new, and each {@code eraseAll} erases a batch of existing trades. The flush
+ * latency statistics recorded by the store are printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JpaCacheStoreBenchmark {
+
+    /**
+     * The number of trades initially in the database.
+     */
+    @Param({"1000000"})
+    public int rowCount;
+
+    /**
+     * The number of entries in each flush, which is the {@code write-max-batch-size} of the demo.
+     */
+    @Param({"5000"})
+    public int batchSize;
+
+    /**
+     * The write mode of the cache store.
+     */
+    @Param({JpaCacheStore.MODE_MERGE, JpaCacheStore.MODE_UPSERT})
+    public String mode;
+
+    /**
+     * The cache store.
+     */
+    private JpaCacheStore cacheStore;
+
+    /**
+     * The trades in the database.
+     */
+    private List<Trade> trades;
+
+    /**
+     * The random number generator for new trades.
+     */
+    private final Random random = new Random(7);
+
+    /**
+     * The position of the next batch in the trades.
+     */
+    private int next;
+
+    /**
+     * Create the cache store and insert the trades.
+     */
+    @Setup
+    public void setup() {
+        System.setProperty(JpaCacheStore.WRITE_MODE_PROPERTY, mode);
+
+        // the cache store creates the tables, so it must be created first
+        cacheStore = new JpaCacheStore("Trade", Trade.class.getName(), BenchmarkDatabase.UNIT_NAME);
+        trades = new ArrayList<>(BenchmarkDatabase.insertTrades(rowCount).values());
+    }
+
+    /**
+     * Create the next batch, which contains existing trades, with a changed quantity,
+     * and new trades.
+     *
+     * @return the next batch
+     */
+    private Map<TradeId, Trade> nextBatch() {
+        Map<TradeId, Trade> batch = new LinkedHashMap<>();
+
+        for (int i = 0; i < batchSize / 2; i++) {
+            Trade trade = trades.get(next++ % trades.size());
+
+            trade.setQuantity(trade.getQuantity() + 1);
+            batch.put(new TradeId(trade.getSymbol(), trade.getId()), trade);
+        }
+
+        while (batch.size() < batchSize) {
+            Trade trade = BenchmarkDatabase.createTrade(random);
+
+            batch.put(new TradeId(trade.getSymbol(), trade.getId()), trade);
+        }
+
+        return batch;
+    }
+
+    /**
+     * Print the flush latency statistics.
+     */
+    @TearDown
+    public void tearDown() {
+        System.out.println();
+        System.out.println(cacheStore.getStatistics());
+    }
+
+    /**
+     * Store a batch of trades.
+     *
+     * @param batch  the batch to store
+     */
+    @Benchmark
+    public void storeAll(StoreBatch batch) {
+        cacheStore.storeAll(batch.trades);
+    }
+
+    /**
+     * Erase a batch of trades.
+     *
+     * @param batch  the batch to erase
+     */
+    @Benchmark
+    public void eraseAll(EraseBatch batch) {
+        cacheStore.eraseAll(batch.trades.keySet());
+    }
+
+    /**
+     * The batch of trades for each {@link #storeAll} invocation.
+     */
+    @State(Scope.Thread)
+    public static class StoreBatch {
+        /**
+         * The trades to store.
+         */
+        private Map<TradeId, Trade> trades;
+
+        /**
+         * Create the batch.
+         *
+         * @param benchmark  the benchmark
+         */
+        @Setup(Level.Invocation)
+        public void setup(JpaCacheStoreBenchmark benchmark) {
+            trades = benchmark.nextBatch();
+        }
+    }
+
+    /**
+     * The batch of trades for each {@link #eraseAll} invocation, which are all stored
+     * before the invocation.
+     */
+    @State(Scope.Thread)
+    public static class EraseBatch {
+        /**
+         * The trades to erase.
+         */
+        private Map<TradeId, Trade> trades;
+
+        /**
+         * Create and store the batch.
+         *
+         * @param benchmark  the benchmark
+         */
+        @Setup(Level.Invocation)
+        public void setup(JpaCacheStoreBenchmark benchmark) {
+            trades = benchmark.nextBatch();
+            benchmark.cacheStore.storeAll(trades);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * File: PerKeyJpaCacheLoader.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.cachestore.JpaCacheLoader;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link JpaCacheLoader} that loads each key using {@link EntityManager#find},
+ * which was the original implementation of {@link JpaCacheLoader#loadAll(Collection)}.
+ */
+@SuppressWarnings( {"unchecked", "rawtypes"})
+public class PerKeyJpaCacheLoader
+        extends JpaCacheLoader {
+
+    /**
+     * Construct a {@link PerKeyJpaCacheLoader}.
+     *
+     * @param entityName       entity name
+     * @param entityClassName  entity class
+     * @param unitName         unit name
+     */
+    public PerKeyJpaCacheLoader(String entityName, String entityClassName, String unitName) {
+        super(entityName, entityClassName, unitName);
+    }
+
+    @Override
+    public Map loadAll(Collection keys) {
+        EntityManager em = getEntityManager();
+
+        try {
+            Map mapResult = new HashMap();
+
+            for (Object key : keys) {
+                Object value = em.find(entityClass, getPrimaryKey(key));
+                if (value != null) {
+                    mapResult.put(key, value);
+                }
+            }
+
+            return mapResult;
+        }
+        finally {
+            em.close();
+        }
+    }
+}
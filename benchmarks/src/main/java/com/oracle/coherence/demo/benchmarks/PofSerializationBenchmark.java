@@ -0,0 +1,134 @@
+/*
+ * File: PofSerializationBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.application.ChartDataPublisher;
+import com.oracle.coherence.demo.application.Utilities;
+
+import com.oracle.coherence.demo.model.ChartData;
+import com.oracle.coherence.demo.model.MemberInfo;
+import com.oracle.coherence.demo.model.Price;
+
+import com.tangosol.io.Serializer;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the POF serialization and deserialization of the demo's model classes,
+ * using the serializer of the trades cache.
+ * <p>
+ * The {@link ChartData} and {@link MemberInfo} are created from a cluster with
+ * trades, as they are by the dashboard.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PofSerializationBenchmark {
+
+    /**
+     * The type to serialize.
+     */
+    @Param({"Trade", "Price", "ChartData", "MemberInfo"})
+    public String type;
+
+    /**
+     * The serializer.
+     */
+    private Serializer serializer;
+
+    /**
+     * The value to serialize.
+     */
+    private Object value;
+
+    /**
+     * The serialized value.
+     */
+    private Binary binary;
+
+    /**
+     * Start the cluster and create the value.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkCluster.startWithTrades(10_000);
+
+        ChartData chartData = ChartDataPublisher.createChartData(false);
+
+        value = switch (type) {
+            case "Trade" -> BenchmarkDatabase.createTrade(new Random(42));
+            case "Price" -> new Price("ORCL", 123.45);
+            case "ChartData" -> chartData;
+            case "MemberInfo" -> chartData.getMemberInfo().get(0);
+            default -> throw new IllegalArgumentException("Unknown type " + type);
+        };
+
+        serializer = Utilities.getTradesCache().getCacheService().getSerializer();
+        binary = ExternalizableHelper.toBinary(value, serializer);
+    }
+
+    /**
+     * Stop the cluster.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkCluster.stop();
+    }
+
+    /**
+     * Serialize the value.
+     *
+     * @return the serialized value
+     */
+    @Benchmark
+    public Binary serialize() {
+        return ExternalizableHelper.toBinary(value, serializer);
+    }
+
+    /**
+     * Deserialize the value.
+     *
+     * @return the deserialized value
+     */
+    @Benchmark
+    public Object deserialize() {
+        return ExternalizableHelper.fromBinary(binary, serializer);
+    }
+}
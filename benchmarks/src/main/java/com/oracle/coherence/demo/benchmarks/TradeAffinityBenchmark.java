@@ -0,0 +1,190 @@
+/*
+ * File: TradeAffinityBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.application.Utilities;
+
+import com.oracle.coherence.demo.model.PofTradeSummaryAggregator;
+import com.oracle.coherence.demo.model.Price;
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+import com.oracle.coherence.demo.model.TradeSummary;
+
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.Filters;
+import com.tangosol.util.InvocableMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of a stock split and a per-symbol aggregation for trades
+ * keyed by a {@link TradeId}, which are associated with their symbol, and trades
+ * keyed by a random UUID, which are spread across all partitions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class TradeAffinityBenchmark {
+
+    /**
+     * The symbol to split and aggregate.
+     */
+    private static final String SYMBOL = "ORCL";
+
+    /**
+     * The number of trades.
+     */
+    @Param({"1000000", "10000000"})
+    public int tradeCount;
+
+    /**
+     * The number of buckets for each symbol.
+     */
+    @Param({"1", "32"})
+    public int buckets;
+
+    /**
+     * The trades keyed by {@link TradeId}.
+     */
+    private NamedCache<TradeId, Trade> trades;
+
+    /**
+     * The same trades keyed by a random UUID.
+     */
+    private NamedCache tradesByUuid;
+
+    /**
+     * Start the cluster and load the trades.
+     */
+    @Setup
+    public void setup() {
+        // must be set before the TradeId class is initialized
+        System.setProperty(TradeId.BUCKETS_PROPERTY, String.valueOf(buckets));
+
+        BenchmarkCluster.startWithTrades(tradeCount);
+
+        trades = Utilities.getTradesCache();
+        tradesByUuid = Utilities.getSession().getCache("TradeByUuid");
+
+        // load the same number of trades keyed by their identifier
+        List<Price>        prices = new ArrayList<>(Utilities.getPricesCache().values());
+        Map<String, Trade> buffer = new HashMap<>();
+        Random             random = new Random();
+
+        for (int i = 0; i < tradeCount; i++) {
+            Price price = prices.get(random.nextInt(prices.size()));
+            Trade trade = new Trade(price.getSymbol(), random.nextInt(1000) + 1, price.getPrice());
+
+            buffer.put(trade.getId(), trade);
+
+            if (buffer.size() == 10_000) {
+                tradesByUuid.putAll(buffer);
+                buffer.clear();
+            }
+        }
+
+        tradesByUuid.putAll(buffer);
+    }
+
+    /**
+     * Stop the cluster.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkCluster.stop();
+    }
+
+    /**
+     * Split the trades keyed by {@link TradeId}, which only targets the partitions for the symbol.
+     */
+    @Benchmark
+    public void splitTradeId() {
+        trades.invokeAll(Utilities.getSymbolFilter(SYMBOL), split());
+    }
+
+    /**
+     * Split the trades keyed by a random UUID, which targets all partitions.
+     */
+    @Benchmark
+    public void splitUuid() {
+        tradesByUuid.invokeAll(Filters.equal(Trade::getSymbol, SYMBOL), split());
+    }
+
+    /**
+     * Aggregate the trades keyed by {@link TradeId}, which only targets the partitions for the symbol.
+     *
+     * @return the {@link TradeSummary}
+     */
+    @Benchmark
+    public TradeSummary aggregateTradeId() {
+        return trades.aggregate(Utilities.getSymbolFilter(SYMBOL), new PofTradeSummaryAggregator());
+    }
+
+    /**
+     * Aggregate the trades keyed by a random UUID, which targets all partitions.
+     *
+     * @return the {@link TradeSummary}
+     */
+    @Benchmark
+    public TradeSummary aggregateUuid() {
+        return (TradeSummary) tradesByUuid.aggregate(Filters.equal(Trade::getSymbol, SYMBOL),
+                                                     new PofTradeSummaryAggregator());
+    }
+
+    /**
+     * Return an entry processor that splits a trade, using a factor of one so
+     * the trades are the same for each iteration.
+     *
+     * @param <K>  the type of the key
+     *
+     * @return the entry processor
+     */
+    private static <K> InvocableMap.EntryProcessor<K, Trade, Void> split() {
+        return entry -> {
+            Trade trade = entry.getValue();
+            trade.split(1);
+            entry.setValue(trade);
+            return null;
+        };
+    }
+}
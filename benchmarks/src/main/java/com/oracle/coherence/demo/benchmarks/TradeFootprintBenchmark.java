@@ -0,0 +1,155 @@
+/*
+ * File: TradeFootprintBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.application.Utilities;
+
+import com.oracle.coherence.demo.model.SymbolDictionary;
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+
+import com.tangosol.io.Serializer;
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.management.MBeanServerProxy;
+
+import com.tangosol.util.ExternalizableHelper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading trades with and without the {@link SymbolDictionary}, and reports
+ * the memory used for each trade, as calculated by the {@code BINARY} unit calculator
+ * of the trades cache.
+ * <p>
+ * The memory is printed when each trial completes, along with the average size of the
+ * serialized keys and values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class TradeFootprintBenchmark {
+
+    /**
+     * The number of trades to calculate the average serialized sizes from.
+     */
+    private static final int SAMPLE_SIZE = 10_000;
+
+    /**
+     * Flag indicating if symbols are serialized using the {@link SymbolDictionary}.
+     */
+    @Param({"false", "true"})
+    public boolean dictionary;
+
+    /**
+     * The number of trades to create.
+     */
+    @Param({"1000000"})
+    public int tradeCount;
+
+    /**
+     * Start the cluster with management enabled, so the cache MBeans are registered.
+     */
+    @Setup
+    public void setup() {
+        System.setProperty(SymbolDictionary.ENABLED_PROPERTY, String.valueOf(dictionary));
+        System.setProperty("coherence.management", "all");
+
+        BenchmarkCluster.start();
+        Utilities.populatePrices();
+    }
+
+    /**
+     * Remove the trades created by the previous invocation.
+     */
+    @Setup(Level.Invocation)
+    public void clear() {
+        Utilities.getTradesCache().truncate();
+        Utilities.getTradeSummaryCache().truncate();
+    }
+
+    /**
+     * Print the memory used for each trade, and stop the cluster.
+     */
+    @TearDown
+    public void tearDown() {
+        NamedCache<TradeId, Trade> trades     = Utilities.getTradesCache();
+        Serializer                 serializer = trades.getCacheService().getSerializer();
+        MBeanServerProxy           mbeans     = CacheFactory.getCluster().getManagement().getMBeanServerProxy();
+
+        long units = 0;
+        long size  = 0;
+        for (String name : mbeans.queryNames("type=Cache,name=" + trades.getCacheName() + ",tier=back,*", null)) {
+            Map<String, Object> attributes = mbeans.getAttributes(name, attribute -> true);
+
+            units += ((Number) attributes.get("Units")).longValue()
+                     * ((Number) attributes.get("UnitFactor")).longValue();
+            size += ((Number) attributes.get("Size")).longValue();
+        }
+
+        // the average serialized sizes of a sample of trades
+        Random random     = new Random(42);
+        long   keyBytes   = 0;
+        long   valueBytes = 0;
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            Trade   trade = BenchmarkDatabase.createTrade(random);
+            TradeId key   = new TradeId(trade.getSymbol(), trade.getId());
+
+            keyBytes += ExternalizableHelper.toBinary(key, serializer).length();
+            valueBytes += ExternalizableHelper.toBinary(trade, serializer).length();
+        }
+
+        System.out.println();
+        System.out.printf("Symbol dictionary %s: %,d trades, %,d bytes per trade (key %.1f, value %.1f bytes)%n",
+                          dictionary ? "enabled" : "disabled", size, size == 0 ? 0 : units / size,
+                          (double) keyBytes / SAMPLE_SIZE, (double) valueBytes / SAMPLE_SIZE);
+
+        BenchmarkCluster.stop();
+    }
+
+    /**
+     * Create the trades.
+     */
+    @Benchmark
+    public void createPositions() {
+        Utilities.createPositions(null, tradeCount);
+    }
+}
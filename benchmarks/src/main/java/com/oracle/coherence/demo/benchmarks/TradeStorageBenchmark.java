@@ -0,0 +1,188 @@
+/*
+ * File: TradeStorageBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.application.Utilities;
+
+import com.oracle.coherence.demo.model.PofTradeSummaryAggregator;
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+import com.oracle.coherence.demo.model.TradeSummary;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import com.tangosol.net.NamedCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.management.NotificationEmitter;
+
+import javax.management.openmbean.CompositeData;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares storing the trades on the heap, using the {@code distributed-scheme}, with
+ * storing them in Elastic Data, using the {@code elastic-data-scheme}.
+ * <p>
+ * The benchmarks measure the latency of aggregating the trades for one symbol, and
+ * for all the symbols. The heap and direct memory used once the trades are loaded,
+ * and the garbage collection pauses during the trial, are printed when each trial
+ * completes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms24g", "-Xmx24g", "-XX:MaxDirectMemorySize=32g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class TradeStorageBenchmark {
+
+    /**
+     * The caching scheme for the trades cache.
+     */
+    @Param({"distributed-scheme", "elastic-data-scheme"})
+    public String scheme;
+
+    /**
+     * The number of trades to create.
+     */
+    @Param({"50000000"})
+    public int tradeCount;
+
+    /**
+     * The number of garbage collection pauses.
+     */
+    private final AtomicLong pauseCount = new AtomicLong();
+
+    /**
+     * The total duration of the garbage collection pauses in milliseconds.
+     */
+    private final AtomicLong pauseTotal = new AtomicLong();
+
+    /**
+     * The longest garbage collection pause in milliseconds.
+     */
+    private final AtomicLong pauseMax = new AtomicLong();
+
+    /**
+     * The heap used once the trades are loaded.
+     */
+    private long heapUsed;
+
+    /**
+     * The direct memory used once the trades are loaded.
+     */
+    private long directUsed;
+
+    /**
+     * The trades cache.
+     */
+    private NamedCache<TradeId, Trade> trades;
+
+    /**
+     * Start the cluster using the caching scheme, load the trades and record the memory used.
+     */
+    @Setup
+    public void setup() {
+        System.setProperty(Utilities.STORAGE_SCHEME_PROPERTY, scheme);
+        System.setProperty(Utilities.RAM_JOURNAL_SIZE_PROPERTY, "28GB");
+
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) bean).addNotificationListener((notification, handback) -> {
+                if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                    GarbageCollectionNotificationInfo info =
+                            GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+
+                    // concurrent cycles run alongside the application, so are not pauses
+                    if (!info.getGcName().contains("Concurrent")) {
+                        long duration = info.getGcInfo().getDuration();
+
+                        pauseCount.incrementAndGet();
+                        pauseTotal.addAndGet(duration);
+                        pauseMax.accumulateAndGet(duration, Math::max);
+                    }
+                }
+            }, null, null);
+        }
+
+        BenchmarkCluster.startWithTrades(tradeCount);
+
+        trades = Utilities.getTradesCache();
+
+        System.gc();
+
+        heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        directUsed = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                                      .filter(pool -> "direct".equals(pool.getName()))
+                                      .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                                      .sum();
+    }
+
+    /**
+     * Print the memory used and the garbage collection pauses, and stop the cluster.
+     */
+    @TearDown
+    public void tearDown() {
+        System.out.println();
+        System.out.printf("%s: %,d trades, heap %,d MB, direct %,d MB, "
+                          + "%,d GC pauses totalling %,d ms, longest %,d ms%n",
+                          scheme, trades.size(), heapUsed >> 20, directUsed >> 20,
+                          pauseCount.get(), pauseTotal.get(), pauseMax.get());
+
+        BenchmarkCluster.stop();
+    }
+
+    /**
+     * Aggregate the trades for a symbol, which only targets the partitions for the symbol.
+     *
+     * @return the trade summary
+     */
+    @Benchmark
+    public TradeSummary aggregateSymbol() {
+        return trades.aggregate(Utilities.getSymbolFilter("ORCL"), new PofTradeSummaryAggregator());
+    }
+
+    /**
+     * Aggregate all the trades.
+     *
+     * @return the trade summary
+     */
+    @Benchmark
+    public TradeSummary aggregateAll() {
+        return trades.aggregate(new PofTradeSummaryAggregator());
+    }
+}
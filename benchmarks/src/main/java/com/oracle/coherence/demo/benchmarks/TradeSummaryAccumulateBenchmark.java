@@ -0,0 +1,132 @@
+/*
+ * File: TradeSummaryAccumulateBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+import com.oracle.coherence.demo.model.TradeSummary;
+import com.oracle.coherence.demo.model.TradeSummaryAggregator;
+
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.InvocableMapHelper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link TradeSummaryAggregator} accumulating a partition's worth of
+ * entries, and combining the partial results of all the partitions, without a cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TradeSummaryAccumulateBenchmark {
+
+    /**
+     * The number of entries to accumulate.
+     */
+    @Param({"10000"})
+    public int entryCount;
+
+    /**
+     * The number of partial results to combine, which is the default partition count.
+     */
+    @Param({"257"})
+    public int partialCount;
+
+    /**
+     * The entries to accumulate.
+     */
+    private List<InvocableMap.Entry<TradeId, Trade>> entries;
+
+    /**
+     * The partial results to combine.
+     */
+    private List<TradeSummary> partials;
+
+    /**
+     * Create the entries and partial results.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+
+        entries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            Trade trade = BenchmarkDatabase.createTrade(random);
+
+            entries.add(new InvocableMapHelper.SimpleEntry<>(new TradeId(trade.getSymbol(), trade.getId()), trade));
+        }
+
+        partials = new ArrayList<>(partialCount);
+        for (int i = 0; i < partialCount; i++) {
+            partials.add(new TradeSummary(random.nextInt(100_000), random.nextInt(1000), random.nextDouble() * 1e6));
+        }
+    }
+
+    /**
+     * Accumulate the entries.
+     *
+     * @return the {@link TradeSummary}
+     */
+    @Benchmark
+    public TradeSummary accumulate() {
+        TradeSummaryAggregator aggregator = new TradeSummaryAggregator();
+
+        for (InvocableMap.Entry<TradeId, Trade> entry : entries) {
+            aggregator.accumulate(entry);
+        }
+
+        return aggregator.getPartialResult();
+    }
+
+    /**
+     * Combine the partial results.
+     *
+     * @return the {@link TradeSummary}
+     */
+    @Benchmark
+    public TradeSummary combine() {
+        TradeSummaryAggregator aggregator = new TradeSummaryAggregator();
+
+        for (TradeSummary partial : partials) {
+            aggregator.combine(partial);
+        }
+
+        return aggregator.finalizeResult();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * File: TradeSummaryAggregatorBenchmark.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.benchmarks;
+
+import com.oracle.coherence.demo.application.Utilities;
+
+import com.oracle.coherence.demo.model.PofTradeSummaryAggregator;
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+import com.oracle.coherence.demo.model.TradeSummary;
+import com.oracle.coherence.demo.model.TradeSummaryAggregator;
+
+import com.tangosol.net.NamedCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link TradeSummaryAggregator}, which deserializes each {@link Trade},
+ * with the {@link PofTradeSummaryAggregator}, which reads the POF encoded values.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate and GC time. The 50M
+ * trade run requires a large heap, eg: {@code -jvmArgsAppend -Xmx24g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TradeSummaryAggregatorBenchmark {
+
+    /**
+     * The number of trades to aggregate.
+     */
+    @Param({"1000000", "10000000", "50000000"})
+    public int tradeCount;
+
+    /**
+     * The trades cache.
+     */
+    private NamedCache<TradeId, Trade> trades;
+
+    /**
+     * Start the cluster and load the trades.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkCluster.startWithTrades(tradeCount);
+        trades = Utilities.getTradesCache();
+    }
+
+    /**
+     * Stop the cluster.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkCluster.stop();
+    }
+
+    /**
+     * Aggregate using the {@link TradeSummaryAggregator}.
+     *
+     * @return the {@link TradeSummary}
+     */
+    @Benchmark
+    public TradeSummary tradeSummaryAggregator() {
+        return trades.aggregate(new TradeSummaryAggregator());
+    }
+
+    /**
+     * Aggregate using the {@link PofTradeSummaryAggregator}.
+     *
+     * @return the {@link TradeSummary}
+     */
+    @Benchmark
+    public TradeSummary pofTradeSummaryAggregator() {
+        return trades.aggregate(new PofTradeSummaryAggregator());
+    }
+}
@@ -1,5 +1,5 @@
 /*
-* Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+* Copyright (c) 2024, 2026 Oracle and/or its affiliates.
 *
 * You may not use this file except in compliance with the Universal Permissive
 * License (UPL), Version 1.0 (the "License.")
@@ -40,6 +40,18 @@ type Trade struct {
 	Price    float32 `json:"price"`
 }
 
+// TradeId is the key for a Trade, Bucket must be less than the trade.affinity.buckets
+// configured on the cluster
+type TradeId struct {
+	Class  string `json:"@class"`
+	Symbol string `json:"symbol"`
+	Bucket int    `json:"bucket"`
+	ID     string `json:"id"`
+}
+
+// affinityBuckets is the default number of buckets for each symbol
+const affinityBuckets = 32
+
 type Price struct {
 	Class  string  `json:"@class"`
 	Symbol string  `json:"symbol"`
@@ -52,7 +64,7 @@ var (
 
 func main() {
 	var (
-		trades  coherence.NamedCache[string, Trade]
+		trades  coherence.NamedCache[TradeId, Trade]
 		prices  coherence.NamedCache[string, Price]
 		options []string
 		argsLen = len(os.Args)
@@ -75,7 +87,7 @@ func main() {
 	}
 	defer session.Close()
 
-	trades, err = coherence.GetNamedCache[string, Trade](session, "Trade")
+	trades, err = coherence.GetNamedCache[TradeId, Trade](session, "Trade")
 	if err != nil {
 		panic(err)
 	}
@@ -106,7 +118,7 @@ func main() {
 	}
 }
 
-func displaySize(trades coherence.NamedCache[string, Trade], prices coherence.NamedCache[string, Price]) error {
+func displaySize(trades coherence.NamedCache[TradeId, Trade], prices coherence.NamedCache[string, Price]) error {
 	size, err := trades.Size(ctx)
 	if err != nil {
 		return err
@@ -153,7 +165,7 @@ func listenPrices(prices coherence.NamedCache[string, Price]) error {
 	select {}
 }
 
-func addTrades(trades coherence.NamedCache[string, Trade], prices coherence.NamedCache[string, Price], options ...string) error {
+func addTrades(trades coherence.NamedCache[TradeId, Trade], prices coherence.NamedCache[string, Price], options ...string) error {
 	if len(options) != 2 {
 		return fmt.Errorf("you must specify a symbol and count")
 	}
@@ -184,19 +196,19 @@ func addTrades(trades coherence.NamedCache[string, Trade], prices coherence.Name
 	}
 
 	// add using efficient PuAll
-	buffer := make(map[string]Trade, 0)
+	buffer := make(map[TradeId]Trade, 0)
 
 	log.Printf("Adding %d random trades for %s...\n", count, symbol)
 
 	for i := 0; i < count; i++ {
 		trade := newTrade(symbol, rand.Intn(1000)+1, currentPrice.Price)
-		buffer[trade.ID] = trade
+		buffer[newTradeId(trade)] = trade
 		if i%1000 == 0 {
 			err = trades.PutAll(ctx, buffer)
 			if err != nil {
 				return err
 			}
-			buffer = make(map[string]Trade, 0)
+			buffer = make(map[TradeId]Trade, 0)
 		}
 	}
 
@@ -217,7 +229,7 @@ func addTrades(trades coherence.NamedCache[string, Trade], prices coherence.Name
 	return nil
 }
 
-func stockSplit(trades coherence.NamedCache[string, Trade], prices coherence.NamedCache[string, Price], options ...string) error {
+func stockSplit(trades coherence.NamedCache[TradeId, Trade], prices coherence.NamedCache[string, Price], options ...string) error {
 	if len(options) != 2 {
 		return fmt.Errorf("you must specify a symbol and factor")
 	}
@@ -254,7 +266,7 @@ func stockSplit(trades coherence.NamedCache[string, Trade], prices coherence.Nam
 
 	symbolExtractor := extractors.Extract[string]("symbol")
 
-	ch := coherence.InvokeAllFilter[string, Trade, int64](ctx, trades, filters.Equal(symbolExtractor, symbol),
+	ch := coherence.InvokeAllFilter[TradeId, Trade, int64](ctx, trades, filters.Equal(symbolExtractor, symbol),
 		processors.Multiply("quantity", factor))
 
 	count := 0
@@ -268,7 +280,7 @@ func stockSplit(trades coherence.NamedCache[string, Trade], prices coherence.Nam
 	log.Printf("Updated quantity for %d trades", count)
 
 	count = 0
-	ch2 := coherence.InvokeAllFilter[string, Trade, float64](ctx, trades, filters.Equal(symbolExtractor, symbol),
+	ch2 := coherence.InvokeAllFilter[TradeId, Trade, float64](ctx, trades, filters.Equal(symbolExtractor, symbol),
 		processors.Multiply("price", float32(1)/float32(factor)))
 
 	for v := range ch2 {
@@ -321,6 +333,14 @@ func usage() {
 	os.Exit(1)
 }
 
+func newTradeId(trade Trade) TradeId {
+	return TradeId{Class: "TradeId",
+		Symbol: trade.Symbol,
+		Bucket: rand.Intn(affinityBuckets),
+		ID:     trade.ID,
+	}
+}
+
 func newTrade(symbol string, qty int, price float32) Trade {
 	return Trade{Class: "Trade",
 		ID:       uuid.New().String(),
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -30,6 +30,9 @@ const session = new Session()
 const prices = session.getCache('Price')
 const trades = session.getCache('Trade')
 
+// the default number of buckets for each symbol, which must be the same as trade.affinity.buckets on the cluster
+const AFFINITY_BUCKETS = 32
+
 // currency formatter
 const formatter = new Intl.NumberFormat('en-US', {
     style: 'currency',
@@ -95,7 +98,7 @@ async function addTrades(symbol, count) {
     let buffer = new Map()
     for (let i = 0; i < count; i++) {
         let trade = createTrade(symbol, Math.floor(Math.random() * 1000), currentPrice.price)
-        buffer.set(trade.id, trade)
+        buffer.set(createTradeId(trade), trade)
         if (i % 1000 === 0) {
             await trades.setAll(buffer)
             buffer.clear()
@@ -174,6 +177,16 @@ function usage() {
         "stock-split - stock split, specify symbol and factor")
 }
 
+// create the key for a Trade
+function createTradeId(trade) {
+    return {
+        '@class': 'TradeId',
+        symbol: trade.symbol,
+        bucket: Math.floor(Math.random() * AFFINITY_BUCKETS),
+        id: trade.id
+    }
+}
+
 // create a Trade
 function createTrade(symbol, qty, price) {
     const trade = {
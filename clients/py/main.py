@@ -1,5 +1,5 @@
 #
-# Copyright (c) 2024 Oracle and/or its affiliates.
+# Copyright (c) 2024, 2026 Oracle and/or its affiliates.
 #
 # You may not use this file except in compliance with the Universal Permissive
 # License (UPL), Version 1.0 (the "License.")
@@ -50,9 +50,21 @@ class Trade:
     price: float
 
 
+# the default number of buckets for each symbol, which must be the same as trade.affinity.buckets on the cluster
+AFFINITY_BUCKETS: int = 32
+
+
+@dataclass(unsafe_hash=True)
+@serialization.proxy("TradeId")
+class TradeId:
+    symbol: str
+    bucket: int
+    id: str
+
+
 session: Session
 prices: NamedCache[str, Price]
-trades: NamedCache[str, Trade]
+trades: NamedCache[TradeId, Trade]
 
 
 async def init_coherence() -> None:
@@ -179,7 +191,7 @@ async def add_trades(symbol: str, count: int) -> None:
     if symbol in symbols:
         current_price: Price = await prices.get(symbol)
 
-        buffer: dict[str, Trade] = {}
+        buffer: dict[TradeId, Trade] = {}
         print()
 
         print(f"{get_time()}: Adding {count} random trades for {symbol}")
@@ -187,7 +199,7 @@ async def add_trades(symbol: str, count: int) -> None:
         for i in range(0, count):
             trade_id = str(uuid.uuid1())
             new_trade: Trade = Trade(trade_id, symbol, random.randint(1, 1000), current_price.price)
-            buffer[trade_id] = new_trade
+            buffer[TradeId(symbol, random.randrange(AFFINITY_BUCKETS), trade_id)] = new_trade
             if i % 1000 == 0:
                 await trades.put_all(buffer)
                 buffer.clear()
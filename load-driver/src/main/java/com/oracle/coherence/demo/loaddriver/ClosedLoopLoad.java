@@ -0,0 +1,190 @@
+/*
+ * File: ClosedLoopLoad.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.loaddriver;
+
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import java.time.Duration;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds a fixed number of requests to an {@link Endpoint} in flight, sending the next
+ * request as soon as each response is received, to determine how many concurrent
+ * requests a member can serve.
+ * <p>
+ * The latency of each request is measured from the time it was sent, as the requests
+ * are never scheduled ahead of the responses.
+ */
+public class ClosedLoopLoad {
+
+    /**
+     * The client used to send requests.
+     */
+    private final HttpClient client;
+
+    /**
+     * The service URL.
+     */
+    private final String url;
+
+    /**
+     * The endpoint to request.
+     */
+    private final Endpoint endpoint;
+
+    /**
+     * The number of requests held in flight.
+     */
+    private final int concurrency;
+
+    /**
+     * The latencies in microseconds.
+     */
+    private final Recorder recorder = new Recorder(OpenLoopLoad.MAX_LATENCY, 3);
+
+    /**
+     * The number of requests completed successfully.
+     */
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * The number of failed requests.
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * The number of requests that have not completed.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Flag indicating if requests are being sent.
+     */
+    private volatile boolean running;
+
+    /**
+     * The time in nanoseconds the statistics were reset.
+     */
+    private volatile long startNanos;
+
+    /**
+     * Construct a {@link ClosedLoopLoad}.
+     *
+     * @param client       the client used to send requests
+     * @param url          the service URL
+     * @param endpoint     the endpoint to request
+     * @param concurrency  the number of requests held in flight
+     */
+    public ClosedLoopLoad(HttpClient client, String url, Endpoint endpoint, int concurrency) {
+        this.client = client;
+        this.url = url;
+        this.endpoint = endpoint;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Start sending requests.
+     */
+    public void start() {
+        running = true;
+        startNanos = System.nanoTime();
+
+        for (int i = 0; i < concurrency; i++) {
+            send();
+        }
+    }
+
+    /**
+     * Discard the statistics recorded so far, such as during a warmup.
+     */
+    public void resetStatistics() {
+        recorder.reset();
+        completed.reset();
+        errors.reset();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Stop sending requests, wait for the requests in flight to complete, and return
+     * the results since the statistics were reset, with the concurrency as the load
+     * factor. Requests that do not complete in time are counted as errors.
+     *
+     * @param timeout  the maximum time to wait for requests in flight
+     *
+     * @return the results
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public StepResult stop(Duration timeout) throws InterruptedException {
+        running = false;
+
+        double elapsed  = (System.nanoTime() - startNanos) / 1e9;
+        long   deadline = System.nanoTime() + timeout.toNanos();
+
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // there is no target rate, as the rate is determined by the response times
+        return new StepResult(endpoint.getName(), concurrency, 0, completed.sum() / elapsed,
+                              errors.sum() + inFlight.get(), recorder.getIntervalHistogram());
+    }
+
+    /**
+     * Send a request, and the next request when it completes if still running.
+     */
+    private void send() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + endpoint.nextPath()))
+                                         .timeout(Duration.ofMinutes(1))
+                                         .GET()
+                                         .build();
+        long        sent    = System.nanoTime();
+
+        inFlight.incrementAndGet();
+
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+              .whenComplete((response, error) -> {
+                  long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent);
+
+                  if (error == null && response.statusCode() < 400) {
+                      recorder.recordValue(Math.min(latency, OpenLoopLoad.MAX_LATENCY));
+                      completed.increment();
+                  }
+                  else {
+                      errors.increment();
+                  }
+
+                  inFlight.decrementAndGet();
+
+                  if (running) {
+                      send();
+                  }
+              });
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * File: ConcurrencyDriver.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.loaddriver;
+
+import java.net.http.HttpClient;
+
+import java.nio.file.Path;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Determines how many concurrent requests to the chart data and trade insert endpoints
+ * one HTTP proxy member can hold, by holding an increasing number of requests in flight
+ * and reporting the achieved rate, errors and latency percentiles at each level.
+ * <p>
+ * Run it against a demo started with {@code -Drest.virtual.threads=false} and then with
+ * {@code -Drest.virtual.threads=true} to compare platform and virtual threads. The
+ * concurrency level is reported as the load factor, and the target rate is zero, as the
+ * rate is determined by the response times.
+ * <p>
+ * The load is configured using the following system properties:
+ * <ul>
+ *     <li>{@code load.url} - the service URL, default {@value LoadDriver#DEFAULT_URL}</li>
+ *     <li>{@code load.concurrency} - the comma separated numbers of requests in flight,
+ *         default {@code 16,64,256,1024}</li>
+ *     <li>{@code load.duration} - the seconds each level is measured for, default 30</li>
+ *     <li>{@code load.warmup} - the seconds each level is run before measuring, default 5</li>
+ *     <li>{@code load.insert.count} - trades created by each insert, default 100</li>
+ *     <li>{@code load.output} - the CSV results file, default {@code target/concurrency-results.csv}</li>
+ * </ul>
+ */
+public final class ConcurrencyDriver {
+
+    /**
+     * The maximum time to wait for requests in flight at the end of a level.
+     */
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * Instances not allowed.
+     */
+    private ConcurrencyDriver() {
+        throw new IllegalStateException("illegal instantiation");
+    }
+
+    /**
+     * Run the concurrency driver.
+     *
+     * @param args  not used, the load is configured using system properties
+     *
+     * @throws Exception if the load could not be run
+     */
+    public static void main(String[] args) throws Exception {
+        String url         = System.getProperty("load.url", LoadDriver.DEFAULT_URL);
+        int[]  levels      = Arrays.stream(System.getProperty("load.concurrency", "16,64,256,1024").split(","))
+                                   .mapToInt(s -> Integer.parseInt(s.trim()))
+                                   .toArray();
+        long   duration    = Long.getLong("load.duration", 30);
+        long   warmup      = Long.getLong("load.warmup", 5);
+        int    insertCount = Integer.getInteger("load.insert.count", 100);
+        Path   output      = Path.of(System.getProperty("load.output", "target/concurrency-results.csv"));
+
+        HttpClient       client    = LoadDriver.createClient();
+        List<Endpoint>   endpoints = List.of(new Endpoint("chart-data", () -> "/chart-data/false", 0),
+                                             new Endpoint("insert", () -> "/developer/insert/" + insertCount, 0));
+        List<StepResult> results   = new ArrayList<>();
+
+        System.out.printf(Locale.ROOT, "Driving %s with concurrency %s, %ds per level%n",
+                          url, Arrays.toString(levels), duration);
+
+        for (Endpoint endpoint : endpoints) {
+            System.out.println();
+            System.out.println(StepResult.header() + "  concurrency");
+
+            for (int level : levels) {
+                ClosedLoopLoad load = new ClosedLoopLoad(client, url, endpoint, level);
+
+                load.start();
+                TimeUnit.SECONDS.sleep(warmup);
+                load.resetStatistics();
+                TimeUnit.SECONDS.sleep(duration);
+
+                StepResult result = load.stop(DRAIN_TIMEOUT);
+
+                System.out.println(result.toRow() + "  " + level);
+                results.add(result);
+            }
+        }
+
+        LoadDriver.write(output, results);
+
+        System.out.println();
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+}
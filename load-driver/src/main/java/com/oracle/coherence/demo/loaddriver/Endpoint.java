@@ -0,0 +1,82 @@
+/*
+ * File: Endpoint.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.loaddriver;
+
+import java.util.function.Supplier;
+
+/**
+ * A REST endpoint of the demo that is requested at a constant rate.
+ */
+public class Endpoint {
+
+    /**
+     * The name of the endpoint in the results.
+     */
+    private final String name;
+
+    /**
+     * The supplier of the path of each request, relative to the service URL.
+     */
+    private final Supplier<String> path;
+
+    /**
+     * The number of requests per second at a load factor of one.
+     */
+    private final double rate;
+
+    /**
+     * Construct an {@link Endpoint}.
+     *
+     * @param name  the name of the endpoint in the results
+     * @param path  the supplier of the path of each request, relative to the service URL
+     * @param rate  the number of requests per second at a load factor of one
+     */
+    public Endpoint(String name, Supplier<String> path, double rate) {
+        this.name = name;
+        this.path = path;
+        this.rate = rate;
+    }
+
+    /**
+     * Obtain the name of the endpoint.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Obtain the path of the next request, relative to the service URL.
+     *
+     * @return the path
+     */
+    public String nextPath() {
+        return path.get();
+    }
+
+    /**
+     * Obtain the number of requests per second at a load factor of one.
+     *
+     * @return the rate
+     */
+    public double getRate() {
+        return rate;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * File: LoadDriver.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.loaddriver;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+
+import java.net.http.HttpClient;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives the REST services of a running demo at configurable rates, and reports the
+ * latency percentiles of each endpoint as the load increases.
+ * <p>
+ * The load is applied in steps, each of which multiplies the configured rates, and the
+ * number of event subscribers, by a load factor. For each step and endpoint the report
+ * includes the target and achieved rates and the latency percentiles, which give the
+ * throughput versus latency curve of each endpoint. The results are also written as
+ * CSV, and as an HdrHistogram percentile distribution for each step and endpoint.
+ * <p>
+ * The load is configured using the following system properties:
+ * <ul>
+ *     <li>{@code load.url} - the service URL, default {@value #DEFAULT_URL}</li>
+ *     <li>{@code load.steps} - the comma separated load factors, default {@code 0.5,1,2,4}</li>
+ *     <li>{@code load.duration} - the seconds each step is measured for, default 30</li>
+ *     <li>{@code load.warmup} - the seconds each step is run before measuring, default 5</li>
+ *     <li>{@code load.chart.data.rate} - chart data requests per second, default 20</li>
+ *     <li>{@code load.price.update.rate} - price updates per second, default 10</li>
+ *     <li>{@code load.insert.rate} - trade inserts per second, default 2</li>
+ *     <li>{@code load.insert.count} - trades created by each insert, default 100</li>
+ *     <li>{@code load.split.rate} - stock splits per second, default 0.5</li>
+ *     <li>{@code load.subscribers} - subscribers to each event stream, default 10</li>
+ *     <li>{@code load.output} - the CSV results file, default {@code target/load-results.csv}</li>
+ * </ul>
+ */
+public final class LoadDriver {
+
+    /**
+     * The default service URL, of a demo started with {@code mvn exec:exec}.
+     */
+    public static final String DEFAULT_URL = "http://127.0.0.1:8080/service";
+
+    /**
+     * The symbols of the demo.
+     */
+    private static final String[] SYMBOLS = {"ORCL", "MSFT", "GOOG", "AAPL", "NFLX", "DELL"};
+
+    /**
+     * The maximum time to wait for requests in flight at the end of a step.
+     */
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Instances not allowed.
+     */
+    private LoadDriver() {
+        throw new IllegalStateException("illegal instantiation");
+    }
+
+    /**
+     * Run the load driver.
+     *
+     * @param args  not used, the load is configured using system properties
+     *
+     * @throws Exception if the load could not be run
+     */
+    public static void main(String[] args) throws Exception {
+        String   url         = System.getProperty("load.url", DEFAULT_URL);
+        double[] factors     = Arrays.stream(System.getProperty("load.steps", "0.5,1,2,4").split(","))
+                                     .mapToDouble(s -> Double.parseDouble(s.trim()))
+                                     .toArray();
+        long     duration    = Long.getLong("load.duration", 30);
+        long     warmup      = Long.getLong("load.warmup", 5);
+        int      subscribers = Integer.getInteger("load.subscribers", 10);
+        Path     output      = Path.of(System.getProperty("load.output", "target/load-results.csv"));
+
+        HttpClient client = createClient();
+
+        List<Endpoint>   endpoints = createEndpoints();
+        List<StepResult> results   = new ArrayList<>();
+
+        System.out.printf(Locale.ROOT, "Driving %s with load factors %s, %ds per step%n",
+                          url, Arrays.toString(factors), duration);
+
+        for (double factor : factors) {
+            List<StepResult> step = runStep(client, url, endpoints, factor, subscribers, warmup, duration);
+
+            System.out.println();
+            System.out.printf(Locale.ROOT, "Load factor %.2f%n", factor);
+            System.out.println(StepResult.header());
+            step.forEach(result -> System.out.println(result.toRow()));
+
+            results.addAll(step);
+        }
+
+        write(output, results);
+
+        System.out.println();
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Create the client used to send requests.
+     *
+     * @return the client
+     */
+    static HttpClient createClient() {
+        return HttpClient.newBuilder()
+                         .version(HttpClient.Version.HTTP_1_1)
+                         .connectTimeout(Duration.ofSeconds(10))
+                         .executor(Executors.newCachedThreadPool(runnable -> {
+                             Thread thread = new Thread(runnable, "LoadDriver");
+                             thread.setDaemon(true);
+                             return thread;
+                         }))
+                         .build();
+    }
+
+    /**
+     * Create the endpoints to request, with their rates at a load factor of one.
+     *
+     * @return the endpoints
+     */
+    private static List<Endpoint> createEndpoints() {
+        int           insertCount = Integer.getInteger("load.insert.count", 100);
+        AtomicInteger splits      = new AtomicInteger();
+
+        return List.of(
+                new Endpoint("chart-data", () -> "/chart-data/false",
+                             rate("load.chart.data.rate", 20)),
+                new Endpoint("price-update", () -> "/chart-data/true",
+                             rate("load.price.update.rate", 10)),
+                new Endpoint("insert", () -> "/developer/insert/" + insertCount,
+                             rate("load.insert.rate", 2)),
+                // a 1:1 split updates every trade for the symbol, without changing the quantities
+                new Endpoint("split", () -> "/developer/split/" + SYMBOLS[splits.getAndIncrement() % SYMBOLS.length]
+                                            + "/1",
+                             rate("load.split.rate", 0.5)));
+    }
+
+    /**
+     * Run a step of the load.
+     *
+     * @param client       the client used to send requests
+     * @param url          the service URL
+     * @param endpoints    the endpoints to request
+     * @param factor       the load factor
+     * @param subscribers  the number of subscribers to each event stream at a load factor of one
+     * @param warmup       the seconds to run before measuring
+     * @param duration     the seconds to measure
+     *
+     * @return the results for each endpoint
+     *
+     * @throws InterruptedException if interrupted
+     */
+    private static List<StepResult> runStep(HttpClient client, String url, List<Endpoint> endpoints, double factor,
+                                            int subscribers, long warmup, long duration) throws InterruptedException {
+        List<OpenLoopLoad> loads        = new ArrayList<>();
+        int                nSubscribers = (int) Math.round(subscribers * factor);
+        SseLoad            prices       = new SseLoad(client, url + "/events/subscribe", "sse-prices", nSubscribers);
+        SseLoad            chartData    = new SseLoad(client, url + "/events/chart-data", "sse-chart-data",
+                                                      nSubscribers);
+
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.getRate() > 0) {
+                loads.add(new OpenLoopLoad(client, url, endpoint, endpoint.getRate() * factor));
+            }
+        }
+
+        prices.start();
+        chartData.start();
+        loads.forEach(OpenLoopLoad::start);
+
+        TimeUnit.SECONDS.sleep(warmup);
+
+        loads.forEach(OpenLoopLoad::resetStatistics);
+        prices.resetStatistics();
+        chartData.resetStatistics();
+
+        TimeUnit.SECONDS.sleep(duration);
+
+        List<StepResult> results = new ArrayList<>();
+        for (OpenLoopLoad load : loads) {
+            results.add(load.stop(factor, DRAIN_TIMEOUT));
+        }
+        results.add(prices.stop(factor));
+        results.add(chartData.stop(factor));
+
+        return results;
+    }
+
+    /**
+     * Write the results as CSV, and the latency distribution of each result as an
+     * HdrHistogram percentile distribution in the same directory.
+     *
+     * @param output   the CSV file
+     * @param results  the results
+     *
+     * @throws IOException if the results could not be written
+     */
+    static void write(Path output, List<StepResult> results) throws IOException {
+        Path directory = output.toAbsolutePath().getParent();
+
+        Files.createDirectories(directory);
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            writer.println(StepResult.CSV_HEADER);
+            results.forEach(result -> writer.println(result.toCsv()));
+        }
+
+        for (StepResult result : results) {
+            Path file = directory.resolve(String.format(Locale.ROOT, "%s-%.2f.hgrm",
+                                                        result.getEndpoint(), result.getFactor()));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                // the latencies are recorded in microseconds, and reported in milliseconds
+                result.getHistogram().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    /**
+     * Return a rate from a system property.
+     *
+     * @param property  the system property
+     * @param rate      the default rate
+     *
+     * @return the rate
+     */
+    private static double rate(String property, double rate) {
+        String value = System.getProperty(property);
+        return value == null ? rate : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * File: OpenLoopLoad.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.loaddriver;
+
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import java.time.Duration;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Requests an {@link Endpoint} at a constant rate, regardless of how long the
+ * responses take, so the measured latencies include any time requests would have
+ * been queued behind slow responses.
+ * <p>
+ * The latency of each request is measured from the time it was scheduled to be
+ * sent, which avoids coordinated omission when the driver itself falls behind.
+ */
+public class OpenLoopLoad {
+
+    /**
+     * The maximum latency in microseconds that is recorded.
+     */
+    static final long MAX_LATENCY = TimeUnit.MINUTES.toMicros(10);
+
+    /**
+     * The client used to send requests.
+     */
+    private final HttpClient client;
+
+    /**
+     * The service URL.
+     */
+    private final String url;
+
+    /**
+     * The endpoint to request.
+     */
+    private final Endpoint endpoint;
+
+    /**
+     * The number of requests per second.
+     */
+    private final double rate;
+
+    /**
+     * The latencies in microseconds.
+     */
+    private final Recorder recorder = new Recorder(MAX_LATENCY, 3);
+
+    /**
+     * The number of requests completed successfully.
+     */
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * The number of failed requests.
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * The number of requests that have not completed.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * The thread that sends the requests.
+     */
+    private Thread thread;
+
+    /**
+     * Flag indicating if requests are being sent.
+     */
+    private volatile boolean running;
+
+    /**
+     * The time in nanoseconds the statistics were reset.
+     */
+    private volatile long startNanos;
+
+    /**
+     * Construct an {@link OpenLoopLoad}.
+     *
+     * @param client    the client used to send requests
+     * @param url       the service URL
+     * @param endpoint  the endpoint to request
+     * @param rate      the number of requests per second
+     */
+    public OpenLoopLoad(HttpClient client, String url, Endpoint endpoint, double rate) {
+        this.client = client;
+        this.url = url;
+        this.endpoint = endpoint;
+        this.rate = rate;
+    }
+
+    /**
+     * Start sending requests.
+     */
+    public void start() {
+        running = true;
+        startNanos = System.nanoTime();
+        thread = new Thread(this::run, "OpenLoopLoad:" + endpoint.getName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Discard the statistics recorded so far, such as during a warmup.
+     */
+    public void resetStatistics() {
+        recorder.reset();
+        completed.reset();
+        errors.reset();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Stop sending requests, wait for the requests in flight to complete, and return
+     * the results since the statistics were reset. Requests that do not complete in
+     * time are counted as errors.
+     *
+     * @param factor   the load factor
+     * @param timeout  the maximum time to wait for requests in flight
+     *
+     * @return the results
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public StepResult stop(double factor, Duration timeout) throws InterruptedException {
+        running = false;
+        thread.join();
+
+        double elapsed  = (System.nanoTime() - startNanos) / 1e9;
+        long   deadline = System.nanoTime() + timeout.toNanos();
+
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        return new StepResult(endpoint.getName(), factor, rate, completed.sum() / elapsed,
+                              errors.sum() + inFlight.get(), recorder.getIntervalHistogram());
+    }
+
+    /**
+     * Send requests at the rate until stopped.
+     */
+    private void run() {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long next     = System.nanoTime();
+
+        while (running) {
+            long delay = next - System.nanoTime();
+
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+                continue;
+            }
+
+            send(next);
+            next += interval;
+        }
+    }
+
+    /**
+     * Send a request.
+     *
+     * @param scheduled  the time in nanoseconds the request was scheduled to be sent
+     */
+    private void send(long scheduled) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + endpoint.nextPath()))
+                                         .timeout(Duration.ofMinutes(1))
+                                         .GET()
+                                         .build();
+
+        inFlight.incrementAndGet();
+
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+              .whenComplete((response, error) -> {
+                  long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+
+                  if (error == null && response.statusCode() < 400) {
+                      recorder.recordValue(Math.min(latency, MAX_LATENCY));
+                      completed.increment();
+                  }
+                  else {
+                      errors.increment();
+                  }
+
+                  inFlight.decrementAndGet();
+              });
+    }
+}
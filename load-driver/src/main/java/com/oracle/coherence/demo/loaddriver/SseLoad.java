@@ -0,0 +1,224 @@
+/*
+ * File: SseLoad.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.loaddriver;
+
+import org.HdrHistogram.Recorder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import java.net.URI;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds a number of server sent event subscriptions open, and records the time from
+ * subscribing to receiving the first event, and the rate events are received.
+ */
+public class SseLoad {
+
+    /**
+     * The client used to subscribe.
+     */
+    private final HttpClient client;
+
+    /**
+     * The URL of the event stream.
+     */
+    private final String url;
+
+    /**
+     * The name of the event stream in the results.
+     */
+    private final String name;
+
+    /**
+     * The number of subscribers.
+     */
+    private final int subscribers;
+
+    /**
+     * The times in microseconds to receive the first event.
+     */
+    private final Recorder recorder = new Recorder(OpenLoopLoad.MAX_LATENCY, 3);
+
+    /**
+     * The number of events received.
+     */
+    private final LongAdder events = new LongAdder();
+
+    /**
+     * The number of subscriptions that failed.
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * The open event streams, keyed by the thread reading them.
+     */
+    private final Map<Thread, InputStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * The threads reading the event streams.
+     */
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+    /**
+     * Flag indicating if the subscriptions are open.
+     */
+    private volatile boolean running;
+
+    /**
+     * The time in nanoseconds the statistics were reset.
+     */
+    private volatile long startNanos;
+
+    /**
+     * Construct a {@link SseLoad}.
+     *
+     * @param client       the client used to subscribe
+     * @param url          the URL of the event stream
+     * @param name         the name of the event stream in the results
+     * @param subscribers  the number of subscribers
+     */
+    public SseLoad(HttpClient client, String url, String name, int subscribers) {
+        this.client = client;
+        this.url = url;
+        this.name = name;
+        this.subscribers = subscribers;
+    }
+
+    /**
+     * Open the subscriptions.
+     */
+    public void start() {
+        running = true;
+        startNanos = System.nanoTime();
+
+        for (int i = 0; i < subscribers; i++) {
+            Thread thread = new Thread(this::subscribe, "SseLoad:" + name + ':' + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * Discard the statistics recorded so far, such as during a warmup.
+     */
+    public void resetStatistics() {
+        events.reset();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Close the subscriptions and return the results. The latencies are the times to
+     * receive the first event, and the achieved rate is the events received per second.
+     *
+     * @param factor  the load factor
+     *
+     * @return the results
+     *
+     * @throws InterruptedException if interrupted while waiting for the subscriptions to close
+     */
+    public StepResult stop(double factor) throws InterruptedException {
+        double elapsed = (System.nanoTime() - startNanos) / 1e9;
+
+        running = false;
+        streams.values().forEach(stream -> {
+            try {
+                stream.close();
+            }
+            catch (IOException ignored) {
+                // ignore
+            }
+        });
+
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        return new StepResult(name, factor, subscribers, events.sum() / elapsed, errors.sum(),
+                              recorder.getIntervalHistogram());
+    }
+
+    /**
+     * Subscribe and read events until stopped.
+     */
+    private void subscribe() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                                         .header("Accept", "text/event-stream")
+                                         .GET()
+                                         .build();
+        long        start   = System.nanoTime();
+        boolean     first   = true;
+
+        try {
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+            if (response.statusCode() >= 400) {
+                errors.increment();
+                response.body().close();
+                return;
+            }
+
+            streams.put(Thread.currentThread(), response.body());
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+            String         line;
+
+            while (running && (line = reader.readLine()) != null) {
+                // each event has a single data line
+                if (line.startsWith("data:")) {
+                    if (first) {
+                        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                                                      OpenLoopLoad.MAX_LATENCY));
+                        first = false;
+                    }
+                    events.increment();
+                }
+            }
+        }
+        catch (IOException e) {
+            if (running) {
+                errors.increment();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            streams.remove(Thread.currentThread());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * File: StepResult.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.loaddriver;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+
+/**
+ * The results for one endpoint at one load factor, with the latencies in microseconds.
+ */
+public class StepResult {
+
+    /**
+     * The header of the CSV results.
+     */
+    public static final String CSV_HEADER =
+            "endpoint,factor,target_rate,achieved_rate,errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+
+    /**
+     * The name of the endpoint.
+     */
+    private final String endpoint;
+
+    /**
+     * The load factor.
+     */
+    private final double factor;
+
+    /**
+     * The target rate per second.
+     */
+    private final double targetRate;
+
+    /**
+     * The achieved rate per second.
+     */
+    private final double achievedRate;
+
+    /**
+     * The number of failed requests.
+     */
+    private final long errors;
+
+    /**
+     * The latencies in microseconds.
+     */
+    private final Histogram histogram;
+
+    /**
+     * Construct a {@link StepResult}.
+     *
+     * @param endpoint      the name of the endpoint
+     * @param factor        the load factor
+     * @param targetRate    the target rate per second
+     * @param achievedRate  the achieved rate per second
+     * @param errors        the number of failed requests
+     * @param histogram     the latencies in microseconds
+     */
+    public StepResult(String endpoint, double factor, double targetRate, double achievedRate, long errors,
+                      Histogram histogram) {
+        this.endpoint = endpoint;
+        this.factor = factor;
+        this.targetRate = targetRate;
+        this.achievedRate = achievedRate;
+        this.errors = errors;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Obtain the name of the endpoint.
+     *
+     * @return the name of the endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Obtain the load factor.
+     *
+     * @return the load factor
+     */
+    public double getFactor() {
+        return factor;
+    }
+
+    /**
+     * Obtain the latencies in microseconds.
+     *
+     * @return the latencies
+     */
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Format the results as a row of the report.
+     *
+     * @return the row
+     */
+    public String toRow() {
+        return String.format(Locale.ROOT, "%-14s %10.1f %10.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f",
+                             endpoint, targetRate, achievedRate, errors, millis(50), millis(90), millis(99),
+                             millis(99.9), histogram.getMaxValue() / 1000.0);
+    }
+
+    /**
+     * Format the results as a CSV line.
+     *
+     * @return the CSV line
+     */
+    public String toCsv() {
+        return String.format(Locale.ROOT, "%s,%.2f,%.2f,%.2f,%d,%.3f,%.3f,%.3f,%.3f,%.3f",
+                             endpoint, factor, targetRate, achievedRate, errors, millis(50), millis(90), millis(99),
+                             millis(99.9), histogram.getMaxValue() / 1000.0);
+    }
+
+    /**
+     * Return the header of the report.
+     *
+     * @return the header
+     */
+    public static String header() {
+        return String.format(Locale.ROOT, "%-14s %10s %10s %8s %9s %9s %9s %9s %9s",
+                             "endpoint", "target/s", "achieved/s", "errors", "p50 ms", "p90 ms", "p99 ms",
+                             "p99.9 ms", "max ms");
+    }
+
+    /**
+     * Return a latency percentile in milliseconds.
+     *
+     * @param percentile  the percentile
+     *
+     * @return the latency in milliseconds
+     */
+    private double millis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * File: BootstrapInterceptor.java
  *
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -47,6 +47,13 @@ public class BootstrapInterceptor
     @Override
     public void onEvent(LifecycleEvent event) {
         if (event.getType() == LifecycleEvent.Type.ACTIVATED) {
+            // ensure the trade summaries exist before any trades are written, as they
+            // are maintained by the TradeSummaryInterceptor on every storage member
+            Utilities.getTradeSummaryCache();
+
+            // publish the member information for the REST services, if this is a storage member
+            MemberInfoView.getInstance().start();
+
             int memberId = CacheFactory.getCluster().getLocalMember().getId();
             // check if we are the first member, or we are running in Kubernetes as the
             // first member could be http which is storage-disabled and the data cannot yet be loaded
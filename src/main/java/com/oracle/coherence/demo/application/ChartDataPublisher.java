@@ -0,0 +1,436 @@
+/*
+ * File: ChartDataPublisher.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.bedrock.util.StopWatch;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.oracle.coherence.demo.model.ChartData;
+import com.oracle.coherence.demo.model.MemberInfo;
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+import com.oracle.coherence.demo.model.TradeSummary;
+import com.oracle.coherence.demo.model.TradeSummaryKey;
+import com.oracle.coherence.demo.model.TradeSummaryViewAggregator;
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheFactory;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+/**
+ * Publishes the {@link ChartData} to the subscribed dashboards using server sent events.
+ * <p>
+ * The {@link ChartData} is calculated once per tick, regardless of the number of
+ * subscribers, and each tick only sends the symbols that have changed since the
+ * previous tick. A new subscriber is sent the complete {@link ChartData} from the
+ * previous tick when it subscribes.
+ * <p>
+ * Each subscriber chooses whether the prices are updated, and they are updated on each
+ * tick while any connected subscriber asks for them to be. The publisher stops, shutting
+ * down its thread and closing its broadcaster, once all its subscribers have disconnected,
+ * and is started again by the next subscriber.
+ */
+public class ChartDataPublisher {
+    /**
+     * System property to set the interval in milliseconds between ticks.
+     */
+    public static final String INTERVAL_PROPERTY = "chart.data.interval";
+
+    /**
+     * The name of the events sent to subscribers.
+     */
+    public static final String EVENT_NAME = "chartData";
+
+    /**
+     * The {@link ChartDataPublisher} for this member.
+     */
+    private static final ChartDataPublisher INSTANCE = new ChartDataPublisher();
+
+    /**
+     * The interval in milliseconds between ticks.
+     */
+    private final long interval = Long.getLong(INTERVAL_PROPERTY, 5000L);
+
+    /**
+     * The currently subscribed event sinks.
+     */
+    private final Set<SseEventSink> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The subscribed event sinks that asked for the prices to be updated on each tick.
+     */
+    private final Set<SseEventSink> priceUpdaters = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The {@link Sse} used to create events, set on the first subscription.
+     */
+    private Sse sse;
+
+    /**
+     * The broadcaster for the subscribers, created on the first subscription.
+     */
+    private SseBroadcaster broadcaster;
+
+    /**
+     * The executor that publishes the ticks, created on the first subscription.
+     */
+    private ScheduledExecutorService executor;
+
+    /**
+     * The {@link ChartData} sent on the previous tick, if any.
+     */
+    private ChartData lastChartData;
+
+    /**
+     * Constructs the {@link ChartDataPublisher}.
+     */
+    private ChartDataPublisher() {
+    }
+
+    /**
+     * Obtain the {@link ChartDataPublisher} for this member.
+     *
+     * @return the {@link ChartDataPublisher}
+     */
+    public static ChartDataPublisher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Subscribe an event sink to the {@link ChartData} updates, starting the
+     * publisher if this is the first subscription.
+     *
+     * @param sse           the {@link Sse} to create events
+     * @param eventSink     the event sink to subscribe
+     * @param updatePrices  flag indicating if the subscriber wants the prices updated on each tick
+     */
+    public synchronized void subscribe(Sse sse, SseEventSink eventSink, boolean updatePrices) {
+        if (broadcaster == null) {
+            this.sse = sse;
+            this.broadcaster = sse.newBroadcaster();
+
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ChartDataPublisher");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            executor.scheduleWithFixedDelay(this::tick, 0, interval, TimeUnit.MILLISECONDS);
+        }
+
+        subscribers.add(eventSink);
+        if (updatePrices) {
+            priceUpdaters.add(eventSink);
+        }
+        broadcaster.register(eventSink);
+
+        if (lastChartData != null) {
+            eventSink.send(createEvent(new ChartDataUpdate(lastChartData, null, isPriceUpdatesEnabled())));
+        }
+    }
+
+    /**
+     * Determine if prices are updated on each tick, which is while any subscriber
+     * asks for them to be.
+     *
+     * @return {@code true} if prices are updated on each tick
+     */
+    public boolean isPriceUpdatesEnabled() {
+        return priceUpdaters.stream().anyMatch(sink -> !sink.isClosed());
+    }
+
+    /**
+     * Calculate the {@link ChartData} for the cluster.
+     *
+     * @param updatePrices  flag indicating if prices should be updated before calculating the chart data
+     *
+     * @return the {@link ChartData}
+     */
+    public static ChartData createChartData(boolean updatePrices) {
+        return createChartDataAsync(updatePrices).join();
+    }
+
+    /**
+     * Asynchronously calculate the {@link ChartData} for the cluster, without blocking
+     * the calling thread.
+     * <p>
+     * The returned future completes on a Coherence service thread, so dependent stages
+     * that block should be run asynchronously.
+     *
+     * @param updatePrices  flag indicating if prices should be updated before calculating the chart data
+     *
+     * @return a future for the {@link ChartData}
+     */
+    public static CompletableFuture<ChartData> createChartDataAsync(boolean updatePrices) {
+        // obtain the caches and views on the calling thread, as creating them blocks
+        AsyncNamedCache<TradeId, Trade>                trades    = Utilities.getTradesCache().async();
+        AsyncNamedCache<TradeSummaryKey, TradeSummary> summaries = Utilities.getTradeSummaryCache().async();
+        PriceView                                      priceView = PriceView.getInstance();
+
+        // the member information is read from the replicated view, rather than queried from each member
+        CompletableFuture<Collection<MemberInfo>> memberInfoFuture = MemberInfoView.getInstance().getMemberInfoAsync();
+
+        // update prices outside the timer, so we don't affect the overall stopwatch time
+        CompletableFuture<Void> pricesUpdated = updatePrices
+                ? trades.size().thenCompose(cacheSize -> cacheSize > 0
+                                                         ? Utilities.updatePricesAsync()
+                                                         : CompletableFuture.completedFuture(null))
+                : CompletableFuture.completedFuture(null);
+
+        return pricesUpdated.thenCompose(ignored -> {
+            // we measure the time our aggregations take
+            StopWatch stopWatch = new StopWatch();
+
+            stopWatch.start();
+
+            // combine the partition-local summaries maintained by the TradeSummaryInterceptor
+            CompletableFuture<Map<String, TradeSummary>> tradesBySymbol = summaries
+                    .aggregate(new TradeSummaryViewAggregator())
+                    .whenComplete((result, throwable) -> stopWatch.stop());
+
+            return tradesBySymbol.thenCombine(memberInfoFuture, (mapTradesBySymbol, memberInfo) ->
+                    // establish the chart data, with the prices read from the local view,
+                    // rather than aggregated on the storage members
+                    new ChartData(CacheFactory.getCluster().getTimeMillis(),
+                            mapTradesBySymbol,
+                            priceView.getPrices(),
+                            memberInfo,
+                            stopWatch.getElapsedTimeIn(TimeUnit.MILLISECONDS)));
+        });
+    }
+
+    /**
+     * Calculate the {@link ChartData} and send the changes to the subscribers.
+     */
+    private void tick() {
+        try {
+            subscribers.removeIf(SseEventSink::isClosed);
+            priceUpdaters.removeIf(SseEventSink::isClosed);
+
+            if (subscribers.isEmpty() && stopIfIdle()) {
+                return;
+            }
+
+            boolean   updatePrices = !priceUpdaters.isEmpty();
+            ChartData chartData    = createChartData(updatePrices);
+
+            synchronized (this) {
+                broadcaster.broadcast(createEvent(new ChartDataUpdate(chartData, lastChartData, updatePrices)));
+                lastChartData = chartData;
+            }
+        }
+        catch (Exception e) {
+            // keep publishing on subsequent ticks
+            Logger.err("Failed to publish chart data", e);
+        }
+    }
+
+    /**
+     * Stop publishing if there are no subscribers, which is decided while holding the
+     * same lock as subscribing, so the next subscriber starts the publisher again.
+     *
+     * @return {@code true} if the publisher was stopped
+     */
+    private synchronized boolean stopIfIdle() {
+        if (!subscribers.isEmpty()) {
+            return false;
+        }
+
+        // the tick running on the executor is the last, as shutting down doesn't interrupt it
+        executor.shutdown();
+        broadcaster.close();
+
+        executor = null;
+        broadcaster = null;
+        lastChartData = null;
+
+        return true;
+    }
+
+    /**
+     * Create an event for a {@link ChartDataUpdate}.
+     *
+     * @param update  the {@link ChartDataUpdate}
+     *
+     * @return the event
+     */
+    private OutboundSseEvent createEvent(ChartDataUpdate update) {
+        return sse.newEventBuilder()
+                  .name(EVENT_NAME)
+                  .data(ChartDataUpdate.class, update)
+                  .mediaType(APPLICATION_JSON_TYPE)
+                  .build();
+    }
+
+    /**
+     * The changes to the {@link ChartData} since the previous tick, or the complete
+     * {@link ChartData} if there was no previous tick.
+     */
+    @XmlRootElement(name = "chart-data-update")
+    @XmlAccessorType(XmlAccessType.PROPERTY)
+    public static class ChartDataUpdate {
+        private final boolean full;
+        private final long instant;
+        private final long aggregationDuration;
+        private final List<MemberInfo> memberInfo;
+        private final Map<String, TradeSummary> tradeSummary = new HashMap<>();
+        private final Map<String, Double> currentPrice = new HashMap<>();
+        private final List<String> removedSymbols = new ArrayList<>();
+        private final boolean priceUpdates;
+
+        /**
+         * Constructs a {@link ChartDataUpdate} containing the changes between two {@link ChartData}.
+         *
+         * @param current       the current {@link ChartData}
+         * @param previous      the previous {@link ChartData}, or {@code null} for a complete update
+         * @param priceUpdates  flag indicating if prices are updated on each tick
+         */
+        public ChartDataUpdate(ChartData current, ChartData previous, boolean priceUpdates) {
+            this.full = previous == null;
+            this.instant = current.getInstant();
+            this.aggregationDuration = current.getAggregationDuration();
+            this.memberInfo = current.getMemberInfo();
+            this.priceUpdates = priceUpdates;
+
+            addChanges(current.getTradeSummary(), previous == null ? null : previous.getTradeSummary(), tradeSummary);
+            addChanges(current.getCurrentPrice(), previous == null ? null : previous.getCurrentPrice(), currentPrice);
+
+            if (previous != null) {
+                for (String symbol : previous.getTradeSummary().keySet()) {
+                    if (!current.getTradeSummary().containsKey(symbol)) {
+                        removedSymbols.add(symbol);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Add the values that have changed between the current and previous map.
+         *
+         * @param current   the current values
+         * @param previous  the previous values, or {@code null} to add all the current values
+         * @param changes   the map to add the changed values to
+         * @param <V>       the type of the values
+         */
+        private static <V> void addChanges(Map<String, V> current, Map<String, V> previous, Map<String, V> changes) {
+            for (Map.Entry<String, V> entry : current.entrySet()) {
+                if (previous == null || !Objects.equals(entry.getValue(), previous.get(entry.getKey()))) {
+                    changes.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        /**
+         * Returns {@code true} if this update contains the complete chart data.
+         *
+         * @return {@code true} if this update contains the complete chart data
+         */
+        public boolean isFull() {
+            return full;
+        }
+
+        /**
+         * Returns the time the chart data was created.
+         *
+         * @return the time
+         */
+        public long getInstant() {
+            return instant;
+        }
+
+        /**
+         * Returns the duration of the aggregations.
+         *
+         * @return the duration
+         */
+        public long getAggregationDuration() {
+            return aggregationDuration;
+        }
+
+        /**
+         * Returns the {@link MemberInfo} for the storage members.
+         *
+         * @return the {@link MemberInfo}
+         */
+        public Collection<MemberInfo> getMemberInfo() {
+            return memberInfo;
+        }
+
+        /**
+         * Returns the trade summaries that have changed.
+         *
+         * @return the trade summaries that have changed
+         */
+        public Map<String, TradeSummary> getTradeSummary() {
+            return tradeSummary;
+        }
+
+        /**
+         * Returns the prices that have changed.
+         *
+         * @return the prices that have changed
+         */
+        public Map<String, Double> getCurrentPrice() {
+            return currentPrice;
+        }
+
+        /**
+         * Returns the symbols that no longer have any trades.
+         *
+         * @return the symbols that no longer have any trades
+         */
+        public List<String> getRemovedSymbols() {
+            return removedSymbols;
+        }
+
+        /**
+         * Returns {@code true} if prices are updated on each tick.
+         *
+         * @return {@code true} if prices are updated on each tick
+         */
+        public boolean isPriceUpdates() {
+            return priceUpdates;
+        }
+    }
+}
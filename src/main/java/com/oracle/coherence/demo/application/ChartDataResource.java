@@ -1,7 +1,7 @@
 /*
  * File: ChartDataResource.java
  *
- * Copyright (c) 2015, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -18,40 +18,14 @@
 
 package com.oracle.coherence.demo.application;
 
-import com.oracle.coherence.demo.invocables.GetMemberInfo;
-
-import com.oracle.coherence.demo.model.ChartData;
-import com.oracle.coherence.demo.model.MemberInfo;
-import com.oracle.coherence.demo.model.Price;
-import com.oracle.coherence.demo.model.Trade;
-
-import com.oracle.bedrock.util.StopWatch;
-
-import com.oracle.coherence.demo.model.TradeSummary;
-import com.oracle.coherence.demo.model.TradeSummaryAggregator;
-import com.tangosol.net.CacheFactory;
-import com.tangosol.net.DistributedCacheService;
-import com.tangosol.net.InvocationService;
-import com.tangosol.net.Member;
-import com.tangosol.net.NamedCache;
-
-import com.tangosol.util.aggregator.GroupAggregator;
-import com.tangosol.util.aggregator.ReducerAggregator;
-
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 
-import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.ext.ExceptionMapper;
-import jakarta.ws.rs.ext.Provider;
-
-import java.util.Map;
-import java.util.Set;
 
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionStage;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_XML;
@@ -60,8 +34,10 @@ import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN;
 /**
  * A JAX-RS resource providing raw data for application charting. If the PathParam updatePrices
  * is set to true then before we carry out the aggregations, we make an
- * update to the prices. This is set to true when Real-Time Price Updates is
- * checked within the web application.
+ * update to the prices.
+ * <p>
+ * The web application receives the chart data from the {@link ChartDataPublisher},
+ * and asks for real-time price updates when it subscribes to it.
  *
  * @author Brian Oliver
  */
@@ -77,6 +53,9 @@ public class ChartDataResource {
 
     /**
      * Obtain the chart data as JSON, optionally updating the prices.
+     * <p>
+     * The chart data is calculated asynchronously, so the HTTP worker thread is not
+     * blocked while the aggregation runs on the storage members.
      *
      * @param updatePrices  flag indicating if prices should be updated when obtaining the chart data
      *
@@ -85,45 +64,9 @@ public class ChartDataResource {
     @GET
     @Path("{updatePrices}")
     @Produces( {APPLICATION_JSON, APPLICATION_XML, TEXT_PLAIN})
-    @SuppressWarnings("unchecked")
-    public Response getChartData(@PathParam("updatePrices") boolean updatePrices) {
-        // we're going to query the positions cache
-        NamedCache<String, Trade> trades    = Utilities.getTradesCache();
-        int                       cacheSize = trades.size();
-
-        // we measure the time our aggregations take
-        StopWatch stopWatch = new StopWatch();
-
-        // update prices outside the timer, so we don't affect the overall stopwatch time
-        if (updatePrices && cacheSize > 0) {
-            Utilities.updatePrices();
-        }
-
-        stopWatch.start();
-
-        Map<String, TradeSummary> mapTradesBySymbol = trades.aggregate(GroupAggregator.createInstance(Trade::getSymbol,
-                new TradeSummaryAggregator()));
-        stopWatch.stop();
-
-        Map<String, Double> symbolPrice = Utilities.getPricesCache().aggregate(new ReducerAggregator<>(Price::getPrice));
-
-        InvocationService invocationService = (InvocationService) CacheFactory.getService("InvocationService");
-
-        // determine the storage enabled members for the membership query
-        Set<Member> storageEnabledMembers =
-                ((DistributedCacheService) trades.getCacheService()).getOwnershipEnabledMembers();
-
-        // determine the member information
-        Map<Member, MemberInfo> memberInfoMap =
-                invocationService.query(new GetMemberInfo(trades.getCacheName()), storageEnabledMembers);
-
-        // establish the chart data
-        ChartData data = new ChartData(CacheFactory.getCluster().getTimeMillis(),
-                mapTradesBySymbol,
-                symbolPrice,
-                memberInfoMap.values(),
-                stopWatch.getElapsedTimeIn(TimeUnit.MILLISECONDS));
-
-        return Response.ok(data).build();
+    public CompletionStage<Response> getChartData(@PathParam("updatePrices") boolean updatePrices) {
+        // the response is completed off the Coherence service thread that completes the aggregation
+        return ChartDataPublisher.createChartDataAsync(updatePrices)
+                                 .thenApplyAsync(data -> Response.ok(data).build(), ResourceExecutor.get());
     }
 }
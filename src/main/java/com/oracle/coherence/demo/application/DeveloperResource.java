@@ -1,7 +1,7 @@
 /*
  * File: DeveloperResource.java
  *
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -18,10 +18,12 @@
 
 package com.oracle.coherence.demo.application;
 
+import com.oracle.coherence.demo.model.SymbolDictionary;
 import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
 
+import com.tangosol.net.AsyncNamedCache;
 import com.tangosol.net.CacheFactory;
-import com.tangosol.net.NamedCache;
 
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
@@ -33,6 +35,11 @@ import jakarta.ws.rs.core.Response;
 import java.util.HashMap;
 import java.util.Map;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_XML;
 import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN;
@@ -59,6 +66,12 @@ public class DeveloperResource {
      */
     private static final String SECONDARY_CLUSTER = System.getProperty(Launcher.SECONDARY_CLUSTER_PROPERTY);
 
+    /**
+     * The executor for the commands that have no asynchronous equivalent, so they
+     * do not block the HTTP worker threads.
+     */
+    private static final ExecutorService EXECUTOR = ResourceExecutor.get();
+
     /**
      * Constructs a {@link DeveloperResource}.
      */
@@ -107,10 +120,8 @@ public class DeveloperResource {
      */
     @GET
     @Path("insert/{count}")
-    public Response getResourceInsert(@PathParam("count") int count) {
-        Utilities.createPositions(null, count);
-
-        return Response.ok().build();
+    public CompletionStage<Response> getResourceInsert(@PathParam("count") int count) {
+        return runJob(new JobManager.InsertJob("insert", null, count, 0));
     }
 
     /**
@@ -119,15 +130,17 @@ public class DeveloperResource {
      * @param symbol the symbol to insert
      * @param count  the number of positions to create
      *
-     * @return {@link Response#ok}
+     * @return {@link Response#ok}, or {@code 400} if the symbol is not known
      */
     @GET
     @Path("insert/{symbol}/{count}")
-    public Response getResourceInsert(@PathParam("symbol") String symbol,
-                                      @PathParam("count") int count) {
-        Utilities.createPositions(symbol, count);
+    public CompletionStage<Response> getResourceInsert(@PathParam("symbol") String symbol,
+                                                       @PathParam("count") int count) {
+        if (!SymbolDictionary.getSymbols().contains(symbol)) {
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST).build());
+        }
 
-        return Response.ok().build();
+        return runJob(new JobManager.InsertJob("insert", symbol, count, 0));
     }
 
     /**
@@ -136,15 +149,17 @@ public class DeveloperResource {
      * @param symbol symbol to split
      * @param factor factor, e.g. 2 = 2:1, 3 = 3:1
      *
-     * @return {@link Response#ok}
+     * @return {@link Response#ok}, or {@code 400} if the symbol is not known
      */
     @GET
     @Path("split/{symbol}/{factor}")
-    public Response getResourceSplit(@PathParam("symbol") String symbol,
-                                     @PathParam("factor") int factor) {
-        Utilities.splitStock(symbol, factor);
+    public CompletionStage<Response> getResourceSplit(@PathParam("symbol") String symbol,
+                                                      @PathParam("factor") int factor) {
+        if (!SymbolDictionary.getSymbols().contains(symbol)) {
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST).build());
+        }
 
-        return Response.ok().build();
+        return runJob(new JobManager.SplitJob(symbol, factor));
     }
 
     /**
@@ -156,15 +171,11 @@ public class DeveloperResource {
      */
     @GET
     @Path("indexes/{enabled}")
-    public Response getResourceIndexes(@PathParam("enabled") boolean enabled) {
-        if (enabled) {
-            Utilities.addIndexes();
-        }
-        else {
-            Utilities.removeIndexes();
-        }
+    public CompletionStage<Response> getResourceIndexes(@PathParam("enabled") boolean enabled) {
+        Runnable command = enabled ? Utilities::addIndexes : Utilities::removeIndexes;
 
-        return Response.ok().build();
+        return CompletableFuture.runAsync(command, EXECUTOR)
+                                .thenApply(ignored -> Response.ok().build());
     }
 
     /**
@@ -179,6 +190,10 @@ public class DeveloperResource {
      *         clear {@code ->} clears the trade cache
      *     </li>
      *     <li>
+     *         migrate-ids {@code ->} replaces the trade identifiers that are not {@link java.util.UUID}s,
+     *         and returns the number of trades migrated
+     *     </li>
+     *     <li>
      *         shutdown {@code ->} terminates the cluster
      *     </li>
      *     <li>
@@ -198,19 +213,23 @@ public class DeveloperResource {
     @GET
     @Path("{command}")
     @Produces( {TEXT_PLAIN})
-    public Response getResource(@PathParam("command") String command) {
-        Object response = null;
+    public CompletionStage<Response> getResource(@PathParam("command") String command) {
+        CompletableFuture<?> future   = null;
+        Object               response = null;
 
         try {
-            NamedCache<String, Trade> trades = Utilities.getTradesCache();
+            AsyncNamedCache<TradeId, Trade> trades = Utilities.getTradesCache().async();
 
             switch (command) {
                 case "clear":
-                    trades.clear();
+                    future = trades.clear();
                     break;
 
                 case "populate":
-                    Utilities.createPositions();
+                    return runJob(new JobManager.InsertJob("populate", null, Utilities.NR_POSITIONS_TO_CREATE, 0));
+
+                case "migrate-ids":
+                    future = Utilities.migrateTradeIdsAsync().thenApply(String::valueOf);
                     break;
 
                 case "shutdown":
@@ -235,19 +254,51 @@ public class DeveloperResource {
                     break;
 
                 default:
-                    return Response.status(Response.Status.NOT_FOUND).build();
+                    return CompletableFuture.completedFuture(Response.status(Response.Status.NOT_FOUND).build());
             }
         }
         catch (Exception e) {
             e.printStackTrace();
 
-            return Response.serverError().build();
+            return CompletableFuture.completedFuture(Response.serverError().build());
         }
 
-        if (response != null) {
-            return Response.ok(response).build();
+        if (future == null) {
+            future = CompletableFuture.completedFuture(response);
+        }
+
+        // the response is completed off the Coherence service thread that completes the command
+        return future.handleAsync((result, throwable) -> {
+            if (throwable != null) {
+                throwable.printStackTrace();
+
+                return Response.serverError().build();
+            }
+
+            return result == null ? Response.ok().build() : Response.ok(result).build();
+        }, EXECUTOR);
+    }
+
+    /**
+     * Run a bulk operation as a {@link Job}, so it is subject to the same concurrency
+     * limits as the jobs started using {@link JobResource}, and respond when it finishes.
+     *
+     * @param job  the job to run
+     *
+     * @return {@link Response#ok} when the job completes, a {@code 429} if too many jobs
+     *         are queued, or an error response if the job fails or is cancelled
+     */
+    private CompletionStage<Response> runJob(Job job) {
+        try {
+            JobManager.getInstance().submit(job);
+        }
+        catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(Response.status(Response.Status.TOO_MANY_REQUESTS).build());
         }
 
-        return Response.ok().build();
+        return job.getCompletion()
+                  .thenApply(finished -> finished.getState() == Job.State.COMPLETED
+                                         ? Response.ok().build()
+                                         : Response.serverError().entity(finished.getError()).build());
     }
 }
@@ -1,7 +1,7 @@
 /*
  * File: EventsResource.java
  *
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -18,33 +18,26 @@
 
 package com.oracle.coherence.demo.application;
 
-import com.oracle.coherence.demo.model.Price;
-
-import com.tangosol.net.NamedCache;
-
-import com.tangosol.util.listener.SimpleMapListener;
-
-import jakarta.annotation.PostConstruct;
-import jakarta.enterprise.context.ApplicationScoped;
-
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 
-import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.sse.Sse;
-import jakarta.ws.rs.sse.SseBroadcaster;
 import jakarta.ws.rs.sse.SseEventSink;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlRootElement;
 
 import java.util.Date;
-
-import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * A JAX-RS resource providing SSE events.
@@ -52,51 +45,76 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
  * @author Tim Middleton
  */
 @Path("/events")
-@ApplicationScoped
 public class EventsResource {
 
-    private NamedCache<String, Price> prices;
-
     @Context
     private Sse sse;
 
-    private SseBroadcaster broadcaster;
-
     /**
      * Default constructor for EventsResource.
      */
     public EventsResource() {
     }
 
-    @PostConstruct
-    void createBroadcaster() {
-        this.broadcaster = sse.newBroadcaster();
-        this.prices = Utilities.getPricesCache();
+    /**
+     * Registers an event listener for the specified {@link SseEventSink}, which
+     * receives batches of price updates from the {@link PriceUpdatePublisher}.
+     *
+     * @param symbols    optional comma separated list of the symbols to receive updates for,
+     *                   if not specified, then all symbols
+     * @param eventSink  provided {@link SseEventSink}
+     *
+     * @throws BadRequestException if any of the symbols are not known
+     */
+    @GET
+    @Path("subscribe")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void registerEventListener(@QueryParam("symbols") String symbols, @Context SseEventSink eventSink) {
+        SortedSet<String> setSymbols = new TreeSet<>();
+
+        if (symbols != null) {
+            for (String symbol : symbols.split(",")) {
+                if (!symbol.isBlank()) {
+                    setSymbols.add(symbol.trim().toUpperCase());
+                }
+            }
+        }
 
-        prices.addMapListener(new SimpleMapListener<String, Price>()
-                .addUpdateHandler(e->broadcaster.broadcast(createEvent("priceUpdate",
-                        e.getNewValue().getSymbol(), e.getOldValue().getPrice(), e.getNewValue().getPrice()))));
+        try {
+            PriceUpdatePublisher.subscribe(setSymbols, sse, eventSink);
+        }
+        catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+        eventSink.send(sse.newEvent("begin", new Date().toString()));
     }
 
-    private OutboundSseEvent createEvent(String name, String symbol, double oldPrice, double newPrice) {
-        return sse.newEventBuilder()
-                  .name(name)
-                  .data(Price.class, new PriceUpdate(symbol, oldPrice, newPrice))
-                  .mediaType(APPLICATION_JSON_TYPE)
-                  .build();
+    /**
+     * Returns the statistics of the {@link PriceUpdatePublisher}s.
+     *
+     * @return the statistics
+     */
+    @GET
+    @Path("stats")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getStatistics() {
+        return Response.ok(PriceUpdatePublisher.getAllStatistics()).build();
     }
 
     /**
-     * Registers an event listener for the specified {@link SseEventSink}.
+     * Subscribes the specified {@link SseEventSink} to the chart data published
+     * by the {@link ChartDataPublisher}.
      *
-     * @param eventSink  provided {@link SseEventSink}
+     * @param priceUpdates  flag indicating if the prices should be updated on each tick
+     *                      while this subscriber is connected
+     * @param eventSink     provided {@link SseEventSink}
      */
     @GET
-    @Path("subscribe")
+    @Path("chart-data")
     @Produces(MediaType.SERVER_SENT_EVENTS)
-    public void registerEventListener(@Context SseEventSink eventSink) {
-        broadcaster.register(eventSink);
-        eventSink.send(sse.newEvent("begin", new Date().toString()));
+    public void subscribeChartData(@QueryParam("priceUpdates") @DefaultValue("false") boolean priceUpdates,
+                                   @Context SseEventSink eventSink) {
+        ChartDataPublisher.getInstance().subscribe(sse, eventSink, priceUpdates);
     }
 
     /**
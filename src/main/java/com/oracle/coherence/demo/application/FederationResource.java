@@ -1,7 +1,7 @@
 /*
  * File: FederationResource.java
  *
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -19,6 +19,7 @@
 package com.oracle.coherence.demo.application;
 
 import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
 
 import com.tangosol.net.CacheFactory;
 import com.tangosol.net.Cluster;
@@ -113,7 +114,7 @@ public class FederationResource {
     public Response federationCommand(@PathParam("command") String command) {
         Cluster                   cluster  = CacheFactory.getCluster();
         Registry                  registry = cluster.getManagement();
-        NamedCache<String, Trade> trades   = Utilities.getTradesCache();
+        NamedCache<TradeId, Trade> trades   = Utilities.getTradesCache();
 
         if (registry != null) {
             MBeanServerProxy proxy  = registry.getMBeanServerProxy();
@@ -0,0 +1,399 @@
+/*
+ * File: Job.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import java.util.UUID;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A bulk operation, such as inserting trades or splitting a stock, which is run by the
+ * {@link JobManager} independently of the request that created it.
+ * <p>
+ * The progress of a job is the number of entries written out of the total, from which
+ * the rate and estimated time remaining are calculated. A job can be cancelled, and
+ * jobs that support it can be throttled to a maximum number of entries per second.
+ */
+@XmlRootElement(name = "job")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+public abstract class Job {
+    /**
+     * The states of a job.
+     */
+    public enum State {
+        /**
+         * The job is waiting for a previous job to finish.
+         */
+        QUEUED,
+
+        /**
+         * The job is running.
+         */
+        RUNNING,
+
+        /**
+         * The job completed successfully.
+         */
+        COMPLETED,
+
+        /**
+         * The job failed.
+         */
+        FAILED,
+
+        /**
+         * The job was cancelled.
+         */
+        CANCELLED
+    }
+
+    /**
+     * The unique identifier of the job.
+     */
+    private final String id = UUID.randomUUID().toString();
+
+    /**
+     * The type of the job.
+     */
+    private final String type;
+
+    /**
+     * The description of the job.
+     */
+    private final String description;
+
+    /**
+     * The future completed when the job finishes.
+     */
+    private final CompletableFuture<Job> completion = new CompletableFuture<>();
+
+    /**
+     * The time in milliseconds the job was created.
+     */
+    private final long created = System.currentTimeMillis();
+
+    /**
+     * The time in milliseconds the job started running, or zero if it has not started.
+     */
+    private volatile long started;
+
+    /**
+     * The time in milliseconds the job finished, or zero if it has not finished.
+     */
+    private volatile long finished;
+
+    /**
+     * The state of the job.
+     */
+    private volatile State state = State.QUEUED;
+
+    /**
+     * The message of the failure, if the job failed.
+     */
+    private volatile String error;
+
+    /**
+     * Flag indicating if the job has been cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs a {@link Job}.
+     *
+     * @param type         the type of the job
+     * @param description  the description of the job
+     */
+    protected Job(String type, String description) {
+        this.type = type;
+        this.description = description;
+    }
+
+    /**
+     * Obtain the unique identifier of the job.
+     *
+     * @return the identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Obtain the type of the job.
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Obtain the description of the job.
+     *
+     * @return the description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Obtain the state of the job.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Obtain the message of the failure, if the job failed.
+     *
+     * @return the message, or {@code null}
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Obtain the time in milliseconds the job was created.
+     *
+     * @return the time the job was created
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * Obtain the time in milliseconds the job started running.
+     *
+     * @return the time the job started, or zero if it has not started
+     */
+    public long getStarted() {
+        return started;
+    }
+
+    /**
+     * Obtain the time in milliseconds the job finished.
+     *
+     * @return the time the job finished, or zero if it has not finished
+     */
+    public long getFinished() {
+        return finished;
+    }
+
+    /**
+     * Obtain the total number of entries the job writes.
+     *
+     * @return the total number of entries, or zero if not yet known
+     */
+    public abstract long getTotal();
+
+    /**
+     * Obtain the number of entries written so far.
+     *
+     * @return the number of entries written
+     */
+    public abstract long getWritten();
+
+    /**
+     * Obtain the maximum number of entries written per second.
+     *
+     * @return the maximum rate, or zero if the job is not throttled
+     */
+    public double getMaxRate() {
+        return 0;
+    }
+
+    /**
+     * Set the maximum number of entries written per second.
+     *
+     * @param maxRate  the maximum rate, or zero to not throttle the job
+     *
+     * @throws UnsupportedOperationException if the job can't be throttled
+     */
+    public void setMaxRate(double maxRate) {
+        throw new UnsupportedOperationException("A " + type + " job can't be throttled");
+    }
+
+    /**
+     * Obtain the number of entries written per second while the job was running.
+     *
+     * @return the rate
+     */
+    public double getRate() {
+        long start = started;
+
+        if (start == 0) {
+            return 0;
+        }
+
+        long end     = finished == 0 ? System.currentTimeMillis() : finished;
+        long elapsed = Math.max(1, end - start);
+
+        return getWritten() * 1000.0 / elapsed;
+    }
+
+    /**
+     * Obtain the estimated number of seconds until the job finishes, based on the rate.
+     *
+     * @return the estimated seconds remaining, zero if the job has finished, or {@code -1}
+     *         if it can't be estimated
+     */
+    public long getEta() {
+        if (isDone()) {
+            return 0;
+        }
+
+        double rate  = getRate();
+        long   total = getTotal();
+
+        return rate <= 0 || total == 0 ? -1 : (long) Math.ceil(Math.max(0, total - getWritten()) / rate);
+    }
+
+    /**
+     * Returns {@code true} if the job has finished.
+     *
+     * @return {@code true} if the job has finished
+     */
+    public boolean isDone() {
+        return state.ordinal() >= State.COMPLETED.ordinal();
+    }
+
+    /**
+     * Cancel the job. A queued job will not be run, and a running job stops as soon as
+     * it can, although any entries already written remain.
+     *
+     * @return {@code true} if the job was cancelled, or {@code false} if it has finished
+     *         or is running and can't be stopped
+     */
+    public boolean cancel() {
+        synchronized (this) {
+            if (isDone()) {
+                return false;
+            }
+
+            if (state == State.QUEUED) {
+                cancelled = true;
+                finish(State.CANCELLED);
+                return true;
+            }
+
+            // decide whether the job can be cancelled before the flag is visible to it
+            if (!canCancel()) {
+                return false;
+            }
+
+            cancelled = true;
+        }
+
+        onCancel();
+
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the job has been cancelled.
+     *
+     * @return {@code true} if the job has been cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Obtain a future that is completed when the job finishes, in any state.
+     *
+     * @return the future
+     */
+    @JsonIgnore
+    public CompletableFuture<Job> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Run the job on the calling thread, recording its state.
+     */
+    void execute() {
+        synchronized (this) {
+            // the job was cancelled while it was queued
+            if (state != State.QUEUED) {
+                return;
+            }
+
+            started = System.currentTimeMillis();
+            state = State.RUNNING;
+        }
+
+        try {
+            run();
+            finish(cancelled ? State.CANCELLED : State.COMPLETED);
+        }
+        catch (Throwable t) {
+            // report the cause of a failed future, rather than the exception wrapping it
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+
+            error = String.valueOf(cause.getMessage());
+            finish(cancelled ? State.CANCELLED : State.FAILED);
+        }
+    }
+
+    /**
+     * Record that the job has finished, and complete its future.
+     *
+     * @param finalState  the final state of the job
+     */
+    private void finish(State finalState) {
+        finished = System.currentTimeMillis();
+        state = finalState;
+        completion.complete(this);
+    }
+
+    /**
+     * Perform the work of the job, which should stop as soon as it can once
+     * {@link #onCancel()} is called, or {@link #isCancelled()} returns {@code true}.
+     *
+     * @throws Exception if the job fails
+     */
+    protected abstract void run() throws Exception;
+
+    /**
+     * Returns {@code true} if the running job can be cancelled.
+     * <p>
+     * This is called while holding the lock on the job, and the job is only marked as
+     * cancelled if it returns {@code true}, so a job that synchronizes on itself to
+     * check {@link #isCancelled()} before it enters a phase that can't be cancelled,
+     * and records that it has entered that phase, can't be cancelled once it has.
+     *
+     * @return {@code true} if the job can be cancelled
+     */
+    protected boolean canCancel() {
+        return true;
+    }
+
+    /**
+     * Called when a running job has been cancelled, to stop it as soon as it can.
+     */
+    protected abstract void onCancel();
+}
@@ -0,0 +1,526 @@
+/*
+ * File: JobManager.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.oracle.coherence.demo.model.Trade;
+
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Filter;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+/**
+ * Runs the {@link Job}s for the bulk operations, and streams their progress to
+ * subscribers using server sent events.
+ * <p>
+ * The number of jobs running at the same time is limited by the
+ * {@value #MAX_CONCURRENT_PROPERTY} system property, which defaults to one, so that
+ * bulk operations do not overlap and compete for the cluster. That is the number of
+ * threads of the executor that runs the jobs, and further jobs wait in the executor's
+ * queue, which is bounded by the {@value #MAX_QUEUED_PROPERTY} system property, after
+ * which new jobs are rejected. The progress of each job with subscribers is sent every
+ * {@value #PROGRESS_INTERVAL_PROPERTY} milliseconds, and when it finishes.
+ */
+public class JobManager {
+    /**
+     * System property to set the maximum number of jobs running at the same time.
+     */
+    public static final String MAX_CONCURRENT_PROPERTY = "job.max.concurrent";
+
+    /**
+     * System property to set the maximum number of queued jobs.
+     */
+    public static final String MAX_QUEUED_PROPERTY = "job.max.queued";
+
+    /**
+     * System property to set the interval in milliseconds between progress events.
+     */
+    public static final String PROGRESS_INTERVAL_PROPERTY = "job.progress.interval";
+
+    /**
+     * The name of the progress events sent to subscribers.
+     */
+    public static final String EVENT_NAME = "jobProgress";
+
+    /**
+     * The maximum number of finished jobs that are retained.
+     */
+    private static final int MAX_FINISHED = 100;
+
+    /**
+     * The {@link JobManager} for this member.
+     */
+    private static final JobManager INSTANCE = new JobManager();
+
+    /**
+     * The maximum number of queued jobs.
+     */
+    private final int maxQueued = Integer.getInteger(MAX_QUEUED_PROPERTY, 16);
+
+    /**
+     * The executor that runs the jobs.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The jobs, in the order they were submitted.
+     */
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    /**
+     * The broadcasters for the subscribers to each job.
+     */
+    private final Map<String, SseBroadcaster> broadcasters = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link Sse} used to create events, set on the first subscription.
+     */
+    private volatile Sse sse;
+
+    /**
+     * Constructs the {@link JobManager}.
+     */
+    private JobManager() {
+        int maxConcurrent = Math.max(1, Integer.getInteger(MAX_CONCURRENT_PROPERTY, 1));
+
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                                               new LinkedBlockingQueue<>(maxQueued), runnable -> {
+            Thread thread = new Thread(runnable, "JobManager");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JobProgressPublisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long interval = Long.getLong(PROGRESS_INTERVAL_PROPERTY, 1000L);
+
+        publisher.scheduleWithFixedDelay(this::publish, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Obtain the {@link JobManager} for this member.
+     *
+     * @return the {@link JobManager}
+     */
+    public static JobManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Submit a job to be run once the jobs submitted before it have started, and
+     * there are fewer than the maximum number of jobs running.
+     *
+     * @param job  the job
+     *
+     * @return the job
+     *
+     * @throws RejectedExecutionException if the maximum number of jobs are queued
+     */
+    public Job submit(Job job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+
+            try {
+                execute(new JobTask(job));
+            }
+            catch (RejectedExecutionException e) {
+                jobs.remove(job.getId());
+                throw new RejectedExecutionException("There are already " + executor.getQueue().size()
+                                                     + " jobs queued", e);
+            }
+
+            prune();
+        }
+
+        return job;
+    }
+
+    /**
+     * Obtain a job.
+     *
+     * @param id  the identifier of the job
+     *
+     * @return the job, or {@code null} if there is no such job
+     */
+    public Job getJob(String id) {
+        synchronized (jobs) {
+            return jobs.get(id);
+        }
+    }
+
+    /**
+     * Obtain the jobs that are running, queued, or recently finished.
+     *
+     * @return the jobs, in the order they were submitted
+     */
+    public List<Job> getJobs() {
+        synchronized (jobs) {
+            return new ArrayList<>(jobs.values());
+        }
+    }
+
+    /**
+     * Subscribe an event sink to the progress of a job. The current progress is sent
+     * immediately, and the event sink is closed once the job has finished.
+     *
+     * @param job        the job
+     * @param sse        the {@link Sse} to create events
+     * @param eventSink  the event sink to subscribe
+     */
+    public void subscribe(Job job, Sse sse, SseEventSink eventSink) {
+        this.sse = sse;
+
+        if (job.isDone()) {
+            eventSink.send(createEvent(job));
+            eventSink.close();
+            return;
+        }
+
+        broadcasters.computeIfAbsent(job.getId(), id -> sse.newBroadcaster()).register(eventSink);
+        eventSink.send(createEvent(job));
+
+        // the job may have finished before the subscription was registered
+        if (job.isDone()) {
+            publish(job);
+        }
+    }
+
+    /**
+     * Send the progress of the jobs with subscribers.
+     */
+    private void publish() {
+        try {
+            for (String id : broadcasters.keySet()) {
+                Job job = getJob(id);
+
+                if (job != null) {
+                    publish(job);
+                }
+            }
+        }
+        catch (Exception e) {
+            // keep publishing on subsequent intervals
+            Logger.err("Failed to publish job progress", e);
+        }
+    }
+
+    /**
+     * Send the progress of a job to its subscribers, closing the subscriptions if the
+     * job has finished.
+     *
+     * @param job  the job
+     */
+    private void publish(Job job) {
+        SseBroadcaster broadcaster = job.isDone() ? broadcasters.remove(job.getId()) : broadcasters.get(job.getId());
+
+        if (broadcaster != null) {
+            broadcaster.broadcast(createEvent(job));
+
+            if (job.isDone()) {
+                broadcaster.close();
+            }
+        }
+    }
+
+    /**
+     * Create a progress event for a job.
+     *
+     * @param job  the job
+     *
+     * @return the event
+     */
+    private OutboundSseEvent createEvent(Job job) {
+        return sse.newEventBuilder()
+                  .name(EVENT_NAME)
+                  .id(job.getId())
+                  .data(Job.class, job)
+                  .mediaType(APPLICATION_JSON_TYPE)
+                  .build();
+    }
+
+    /**
+     * Queue a job to be run by the executor, making room in the queue by removing the
+     * jobs that were cancelled while they were queued, if it is full.
+     *
+     * @param task  the task that runs the job
+     *
+     * @throws RejectedExecutionException if the maximum number of jobs are queued
+     */
+    private void execute(JobTask task) {
+        try {
+            executor.execute(task);
+        }
+        catch (RejectedExecutionException e) {
+            if (!executor.getQueue().removeIf(queued -> ((JobTask) queued).job.isDone())) {
+                throw e;
+            }
+
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * Remove the oldest finished jobs, keeping at most {@value #MAX_FINISHED}.
+     */
+    private void prune() {
+        long finished = jobs.values().stream().filter(Job::isDone).count();
+
+        for (Iterator<Job> iterator = jobs.values().iterator(); iterator.hasNext() && finished > MAX_FINISHED; ) {
+            if (iterator.next().isDone()) {
+                iterator.remove();
+                finished--;
+            }
+        }
+    }
+
+    // ----- inner class: JobTask -------------------------------------------
+
+    /**
+     * The task that runs a {@link Job} on the executor.
+     */
+    private class JobTask
+            implements Runnable {
+        /**
+         * The job to run.
+         */
+        private final Job job;
+
+        /**
+         * Constructs a {@link JobTask}.
+         *
+         * @param job  the job to run
+         */
+        private JobTask(Job job) {
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            if (job.isDone()) {
+                // the job was cancelled while it was queued
+                return;
+            }
+
+            try {
+                Logger.info("Running " + job.getType() + " job " + job.getId() + ": " + job.getDescription());
+                job.execute();
+                Logger.info("Finished " + job.getType() + " job " + job.getId() + " as " + job.getState());
+            }
+            finally {
+                publish(job);
+            }
+        }
+    }
+
+    // ----- inner class: InsertJob -----------------------------------------
+
+    /**
+     * A {@link Job} that inserts trades using a {@link TradeLoader}, which can be
+     * throttled and cancelled.
+     */
+    public static class InsertJob
+            extends Job {
+        /**
+         * The symbol to insert trades for, or {@code null} for all symbols.
+         */
+        private final String symbol;
+
+        /**
+         * The number of trades to insert.
+         */
+        private final int count;
+
+        /**
+         * The loader for the trades.
+         */
+        private final TradeLoader loader = new TradeLoader(Utilities.getTradesCache());
+
+        /**
+         * Constructs an {@link InsertJob}.
+         *
+         * @param type     the type of the job
+         * @param symbol   the symbol to insert trades for, or {@code null} for all symbols
+         * @param count    the number of trades to insert
+         * @param maxRate  the maximum number of trades per second, or zero to not throttle the job
+         */
+        public InsertJob(String type, String symbol, int count, double maxRate) {
+            super(type, "Insert " + count + " trades" + (symbol == null ? "" : " for " + symbol));
+
+            this.symbol = symbol;
+            this.count = count;
+
+            loader.setMaxRate(maxRate);
+        }
+
+        @Override
+        public long getTotal() {
+            return count;
+        }
+
+        @Override
+        public long getWritten() {
+            return loader.getWrittenCount();
+        }
+
+        @Override
+        public double getMaxRate() {
+            return loader.getMaxRate();
+        }
+
+        @Override
+        public void setMaxRate(double maxRate) {
+            loader.setMaxRate(maxRate);
+        }
+
+        @Override
+        protected void run() {
+            Utilities.createPositions(symbol, count, loader);
+        }
+
+        @Override
+        protected void onCancel() {
+            loader.cancel();
+        }
+    }
+
+    // ----- inner class: SplitJob ------------------------------------------
+
+    /**
+     * A {@link Job} that splits a stock, reporting the trades split by each wave of
+     * partitions, which can only be cancelled before the trades are split.
+     */
+    public static class SplitJob
+            extends Job {
+        /**
+         * The symbol to split.
+         */
+        private final String symbol;
+
+        /**
+         * The split factor.
+         */
+        private final int factor;
+
+        /**
+         * The number of trades for the symbol, once counted.
+         */
+        private volatile long total;
+
+        /**
+         * The number of trades split.
+         */
+        private final AtomicLong written = new AtomicLong();
+
+        /**
+         * Flag indicating if the trades are being split, guarded by the lock on the job.
+         */
+        private boolean splitting;
+
+        /**
+         * Constructs a {@link SplitJob}.
+         *
+         * @param symbol  the symbol to split
+         * @param factor  the split factor
+         */
+        public SplitJob(String symbol, int factor) {
+            super("split", "Split " + symbol + " " + factor + ":1");
+
+            this.symbol = symbol;
+            this.factor = factor;
+        }
+
+        @Override
+        public long getTotal() {
+            return total;
+        }
+
+        @Override
+        public long getWritten() {
+            return written.get();
+        }
+
+        @Override
+        protected void run() {
+            Filter<Trade> filter = Utilities.getSymbolFilter(symbol);
+
+            total = Utilities.getTradesCache().aggregate(filter, Aggregators.count());
+
+            if (startSplit()) {
+                // the progress is updated as each wave of partitions is split
+                Utilities.splitStockAsync(symbol, factor, written::addAndGet).join();
+            }
+        }
+
+        @Override
+        protected boolean canCancel() {
+            // the split can only be cancelled before it has started, as stopping
+            // between waves would leave the trades for the symbol partially split
+            return !splitting;
+        }
+
+        @Override
+        protected void onCancel() {
+            // the split checks whether it has been cancelled before it starts
+        }
+
+        /**
+         * Record that the split has started, unless the job has been cancelled, under the
+         * lock used by {@link #cancel()}, so the job is either cancelled or split.
+         *
+         * @return {@code true} if the split can start
+         */
+        private boolean startSplit() {
+            synchronized (this) {
+                if (isCancelled()) {
+                    return false;
+                }
+
+                splitting = true;
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * File: JobResource.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.coherence.demo.model.SymbolDictionary;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * A JAX-RS resource to run bulk operations as {@link Job}s, which return immediately
+ * with the job, and can be monitored, throttled and cancelled while they run.
+ * <p>
+ * The available operations are:
+ * <ul>
+ *     <li>
+ *         {@code POST jobs/insert/{count}?symbol=&rate=} {@code ->} inserts trades, optionally
+ *         for a single symbol and at a maximum number of trades per second
+ *     </li>
+ *     <li>
+ *         {@code POST jobs/populate?rate=} {@code ->} populates the stock positions
+ *     </li>
+ *     <li>
+ *         {@code POST jobs/split/{symbol}/{factor}} {@code ->} splits a stock
+ *     </li>
+ *     <li>
+ *         {@code GET jobs} {@code ->} returns the jobs
+ *     </li>
+ *     <li>
+ *         {@code GET jobs/{id}} {@code ->} returns a job
+ *     </li>
+ *     <li>
+ *         {@code GET jobs/{id}/progress} {@code ->} streams the progress of a job as server sent events
+ *     </li>
+ *     <li>
+ *         {@code PUT jobs/{id}/rate/{rate}} {@code ->} throttles a job, or removes the throttle if zero
+ *     </li>
+ *     <li>
+ *         {@code DELETE jobs/{id}} {@code ->} cancels a job
+ *     </li>
+ * </ul>
+ * <p>
+ * <strong>Note:</strong> This is an example only and does not include security
+ * capabilities to protect REST end-points.
+ */
+@Path("/jobs")
+public class JobResource {
+
+    @Context
+    private Sse sse;
+
+    /**
+     * Constructs a {@link JobResource}.
+     */
+    public JobResource() {
+    }
+
+    /**
+     * Start a job to insert trades.
+     *
+     * @param count    the number of trades to insert
+     * @param symbol   the symbol to insert trades for, or {@code null} for all symbols
+     * @param rate     the maximum number of trades per second, or zero to not throttle the job
+     * @param uriInfo  the request URI
+     *
+     * @return the accepted job, {@code 400} if the symbol is not known, or {@code 429}
+     *         if too many jobs are queued
+     */
+    @POST
+    @Path("insert/{count}")
+    @Produces(APPLICATION_JSON)
+    public Response insert(@PathParam("count") int count,
+                           @QueryParam("symbol") String symbol,
+                           @QueryParam("rate") @DefaultValue("0") double rate,
+                           @Context UriInfo uriInfo) {
+        if (count < 1 || rate < 0 || (symbol != null && !SymbolDictionary.getSymbols().contains(symbol))) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        return submit(new JobManager.InsertJob("insert", symbol, count, rate), uriInfo);
+    }
+
+    /**
+     * Start a job to populate the stock positions.
+     *
+     * @param rate     the maximum number of trades per second, or zero to not throttle the job
+     * @param uriInfo  the request URI
+     *
+     * @return the accepted job, or {@code 429} if too many jobs are queued
+     */
+    @POST
+    @Path("populate")
+    @Produces(APPLICATION_JSON)
+    public Response populate(@QueryParam("rate") @DefaultValue("0") double rate,
+                             @Context UriInfo uriInfo) {
+        if (rate < 0) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        return submit(new JobManager.InsertJob("populate", null, Utilities.NR_POSITIONS_TO_CREATE, rate), uriInfo);
+    }
+
+    /**
+     * Start a job to split a stock.
+     *
+     * @param symbol   the symbol to split
+     * @param factor   the split factor, e.g. 2 = 2:1
+     * @param uriInfo  the request URI
+     *
+     * @return the accepted job, {@code 400} if the symbol is not known, or {@code 429}
+     *         if too many jobs are queued
+     */
+    @POST
+    @Path("split/{symbol}/{factor}")
+    @Produces(APPLICATION_JSON)
+    public Response split(@PathParam("symbol") String symbol,
+                          @PathParam("factor") int factor,
+                          @Context UriInfo uriInfo) {
+        if (factor < 1 || !SymbolDictionary.getSymbols().contains(symbol)) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        return submit(new JobManager.SplitJob(symbol, factor), uriInfo);
+    }
+
+    /**
+     * Return the jobs that are running, queued, or recently finished.
+     *
+     * @return the jobs
+     */
+    @GET
+    @Produces(APPLICATION_JSON)
+    public Response getJobs() {
+        return Response.ok(JobManager.getInstance().getJobs()).build();
+    }
+
+    /**
+     * Return a job.
+     *
+     * @param id  the identifier of the job
+     *
+     * @return the job, or {@code 404} if there is no such job
+     */
+    @GET
+    @Path("{id}")
+    @Produces(APPLICATION_JSON)
+    public Response getJob(@PathParam("id") String id) {
+        Job job = JobManager.getInstance().getJob(id);
+
+        return job == null ? Response.status(Response.Status.NOT_FOUND).build() : Response.ok(job).build();
+    }
+
+    /**
+     * Stream the progress of a job as server sent events, until it finishes.
+     *
+     * @param id         the identifier of the job
+     * @param eventSink  provided {@link SseEventSink}
+     */
+    @GET
+    @Path("{id}/progress")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void subscribe(@PathParam("id") String id, @Context SseEventSink eventSink) {
+        Job job = JobManager.getInstance().getJob(id);
+
+        if (job == null) {
+            eventSink.close();
+        }
+        else {
+            JobManager.getInstance().subscribe(job, sse, eventSink);
+        }
+    }
+
+    /**
+     * Throttle a job to a maximum number of entries per second.
+     *
+     * @param id    the identifier of the job
+     * @param rate  the maximum number of entries per second, or zero to not throttle the job
+     *
+     * @return the job, {@code 404} if there is no such job, or {@code 400} if the job can't
+     *         be throttled
+     */
+    @PUT
+    @Path("{id}/rate/{rate}")
+    @Produces(APPLICATION_JSON)
+    public Response throttle(@PathParam("id") String id, @PathParam("rate") double rate) {
+        Job job = JobManager.getInstance().getJob(id);
+
+        if (job == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+
+        try {
+            job.setMaxRate(rate);
+        }
+        catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(e.getMessage()).build();
+        }
+
+        return Response.ok(job).build();
+    }
+
+    /**
+     * Cancel a job.
+     *
+     * @param id  the identifier of the job
+     *
+     * @return the job, {@code 404} if there is no such job, or {@code 409} if the job has
+     *         finished or can't be stopped
+     */
+    @DELETE
+    @Path("{id}")
+    @Produces(APPLICATION_JSON)
+    public Response cancel(@PathParam("id") String id) {
+        Job job = JobManager.getInstance().getJob(id);
+
+        if (job == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+
+        return job.cancel() ? Response.ok(job).build() : Response.status(Response.Status.CONFLICT).entity(job).build();
+    }
+
+    /**
+     * Submit a job to the {@link JobManager}.
+     *
+     * @param job      the job
+     * @param uriInfo  the request URI
+     *
+     * @return the accepted job, or {@code 429} if too many jobs are queued
+     */
+    private Response submit(Job job, UriInfo uriInfo) {
+        try {
+            JobManager.getInstance().submit(job);
+        }
+        catch (RejectedExecutionException e) {
+            return Response.status(Response.Status.TOO_MANY_REQUESTS).entity(e.getMessage()).build();
+        }
+
+        return Response.accepted(job)
+                       .location(uriInfo.getBaseUriBuilder().path(JobResource.class).path(job.getId()).build())
+                       .build();
+    }
+}
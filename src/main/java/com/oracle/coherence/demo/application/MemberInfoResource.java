@@ -1,7 +1,7 @@
 /*
  * File: MemberInfoResource.java
  *
- * Copyright (c) 2015, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -18,24 +18,16 @@
 
 package com.oracle.coherence.demo.application;
 
-import com.oracle.coherence.demo.invocables.GetMemberInfo;
-
 import com.oracle.coherence.demo.model.MemberInfo;
-import com.oracle.coherence.demo.model.Trade;
 
-import com.tangosol.net.CacheFactory;
-import com.tangosol.net.DistributedCacheService;
-import com.tangosol.net.InvocationService;
 import com.tangosol.net.Member;
-import com.tangosol.net.NamedCache;
 
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 
 import jakarta.ws.rs.core.Response;
 
-import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 /**
  * A JAX-RS resource providing {@link com.oracle.coherence.demo.model.MemberInfo} for cluster
@@ -53,26 +45,15 @@ public class MemberInfoResource {
     }
 
     /**
-     * Return {@link MemberInfo} on each {@link Member} of the cluster.
+     * Return {@link MemberInfo} on each {@link Member} of the cluster, read from the
+     * {@link MemberInfoView} without blocking the HTTP worker thread.
      *
      * @return {@link MemberInfo} on each {@link Member} of the cluster
      */
     @GET
-    public Response getResource() {
-        NamedCache<String, Trade> trades = Utilities.getTradesCache();
-        InvocationService invocationService = (InvocationService)
-                CacheFactory.getService("InvocationService");
-
-        // determine the storage enabled members for the membership query
-        Set<Member> storageEnabledMembers =
-                ((DistributedCacheService) trades.getCacheService()).getOwnershipEnabledMembers();
-
-        // determine the member information
-        //noinspection unchecked
-        Map<Member, MemberInfo> results =
-                invocationService.query(new GetMemberInfo(trades.getCacheName()),
-                        storageEnabledMembers);
-
-        return Response.ok(results.values()).build();
+    public CompletionStage<Response> getResource() {
+        // the response is completed off the Coherence service thread that completes any query
+        return MemberInfoView.getInstance().getMemberInfoAsync()
+                             .thenApplyAsync(memberInfo -> Response.ok(memberInfo).build(), ResourceExecutor.get());
     }
 }
@@ -0,0 +1,235 @@
+/*
+ * File: MemberInfoView.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.oracle.coherence.demo.invocables.GetMemberInfo;
+
+import com.oracle.coherence.demo.model.MemberInfo;
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.DistributedCacheService;
+import com.tangosol.net.InvocationObserver;
+import com.tangosol.net.InvocationService;
+import com.tangosol.net.Member;
+import com.tangosol.net.MemberEvent;
+import com.tangosol.net.MemberListener;
+import com.tangosol.net.NamedCache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.oracle.coherence.demo.application.Utilities.TRADE_CACHE;
+
+/**
+ * A replicated view of the {@link MemberInfo} for the storage members, so that the
+ * REST services read the member information locally, rather than querying every
+ * storage member for each request.
+ * <p>
+ * Each storage member publishes its {@link MemberInfo} to the replicated
+ * {@code member-info} cache at a fixed interval, and removes the information for the
+ * storage members that leave, so the cost of the dashboards does not depend on the
+ * number of requests or subscribers. Information that is older than the staleness
+ * bound, or is missing for a storage member that has not yet published, is queried
+ * from just those members.
+ */
+public class MemberInfoView {
+    /**
+     * System property to set the interval in milliseconds between publishing the member information.
+     */
+    public static final String INTERVAL_PROPERTY = "member.info.interval";
+
+    /**
+     * System property to set the maximum age in milliseconds of the member information that is read
+     * from the view, which defaults to three intervals.
+     */
+    public static final String MAX_AGE_PROPERTY = "member.info.max.age";
+
+    /**
+     * The {@link MemberInfoView} for this member.
+     */
+    private static final MemberInfoView INSTANCE = new MemberInfoView();
+
+    /**
+     * The interval in milliseconds between publishing the member information.
+     */
+    private final long interval = Long.getLong(INTERVAL_PROPERTY, 2000L);
+
+    /**
+     * The maximum age in milliseconds of the member information that is read from the view.
+     */
+    private final long maxAge = Long.getLong(MAX_AGE_PROPERTY, 3 * interval);
+
+    /**
+     * The executor publishing the member information, if this is a storage member.
+     */
+    private ScheduledExecutorService executor;
+
+    /**
+     * Constructs the {@link MemberInfoView}.
+     */
+    private MemberInfoView() {
+    }
+
+    /**
+     * Obtain the {@link MemberInfoView} for this member.
+     *
+     * @return the {@link MemberInfoView}
+     */
+    public static MemberInfoView getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start publishing the {@link MemberInfo} for this member, if it is a storage
+     * member for the trades.
+     */
+    public synchronized void start() {
+        DistributedCacheService service = (DistributedCacheService) Utilities.getTradesCache().getCacheService();
+
+        if (executor != null || !service.isLocalStorageEnabled()) {
+            return;
+        }
+
+        // each remaining storage member removes the information for the members that leave
+        service.addMemberListener(new MemberListener() {
+            @Override
+            public void memberJoined(MemberEvent event) {
+            }
+
+            @Override
+            public void memberLeaving(MemberEvent event) {
+            }
+
+            @Override
+            public void memberLeft(MemberEvent event) {
+                if (!event.isLocal()) {
+                    Utilities.getMemberInfoCache().remove(event.getMember().getId());
+                }
+            }
+        });
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MemberInfoPublisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        executor.scheduleWithFixedDelay(this::publish, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Obtain the {@link MemberInfo} for the storage members, ordered by member id.
+     *
+     * @return the {@link MemberInfo} for the storage members
+     */
+    public Collection<MemberInfo> getMemberInfo() {
+        return getMemberInfoAsync().join();
+    }
+
+    /**
+     * Asynchronously obtain the {@link MemberInfo} for the storage members, ordered by
+     * member id.
+     * <p>
+     * The returned future is already complete unless some members are queried, in which
+     * case it completes on the service thread when they have all responded.
+     *
+     * @return a future for the {@link MemberInfo} for the storage members
+     */
+    public CompletableFuture<Collection<MemberInfo>> getMemberInfoAsync() {
+        NamedCache<Integer, MemberInfo> cache  = Utilities.getMemberInfoCache();
+        Map<Integer, MemberInfo>        result = new TreeMap<>();
+        Set<Member>                     stale  = new HashSet<>();
+        long                            now    = CacheFactory.getCluster().getTimeMillis();
+
+        // determine the storage enabled members, so members that have left are never included
+        Set<Member> storageEnabledMembers =
+                ((DistributedCacheService) Utilities.getTradesCache().getCacheService()).getOwnershipEnabledMembers();
+
+        for (Member member : storageEnabledMembers) {
+            MemberInfo memberInfo = cache.get(member.getId());
+
+            if (memberInfo == null || now - memberInfo.getTimestamp() > maxAge) {
+                stale.add(member);
+            }
+            else {
+                result.put(member.getId(), memberInfo);
+            }
+        }
+
+        if (stale.isEmpty()) {
+            return CompletableFuture.completedFuture(result.values());
+        }
+
+        InvocationService                         invocationService =
+                (InvocationService) CacheFactory.getService("InvocationService");
+        CompletableFuture<Collection<MemberInfo>> future = new CompletableFuture<>();
+
+        invocationService.execute(new GetMemberInfo(TRADE_CACHE), stale, new InvocationObserver() {
+            @Override
+            public void memberCompleted(Member member, Object o) {
+                if (o instanceof MemberInfo memberInfo) {
+                    synchronized (result) {
+                        result.put(memberInfo.getId(), memberInfo);
+                    }
+                }
+            }
+
+            @Override
+            public void memberFailed(Member member, Throwable throwable) {
+                // the member is omitted, as it would be by a query
+            }
+
+            @Override
+            public void memberLeft(Member member) {
+            }
+
+            @Override
+            public void invocationCompleted() {
+                future.complete(result.values());
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Publish the {@link MemberInfo} for this member to the view.
+     */
+    private void publish() {
+        try {
+            MemberInfo memberInfo = GetMemberInfo.collect(TRADE_CACHE);
+
+            Utilities.getMemberInfoCache().put(memberInfo.getId(), memberInfo);
+        }
+        catch (Exception e) {
+            // keep publishing on subsequent intervals
+            Logger.err("Failed to publish member information", e);
+        }
+    }
+}
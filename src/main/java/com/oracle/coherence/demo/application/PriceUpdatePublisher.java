@@ -0,0 +1,425 @@
+/*
+ * File: PriceUpdatePublisher.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.oracle.coherence.demo.application.EventsResource.PriceUpdate;
+
+import com.oracle.coherence.demo.model.Price;
+import com.oracle.coherence.demo.model.PriceUpdateTransformer;
+import com.oracle.coherence.demo.model.SymbolDictionary;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+import com.tangosol.util.MapListener;
+
+import com.tangosol.util.filter.MapEventFilter;
+import com.tangosol.util.filter.MapEventTransformerFilter;
+
+import com.tangosol.util.listener.SimpleMapListener;
+
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+/**
+ * Publishes {@link Price} changes to the subscribers of {@link EventsResource}.
+ * <p>
+ * The {@link Price} cache listener only records the latest change for each symbol,
+ * so it never holds up the event dispatcher thread. A dedicated thread sends the
+ * changes recorded in each window to the subscribers as a single batched event,
+ * which means multiple changes to a symbol within a window are coalesced into one.
+ * <p>
+ * There is a publisher for each distinct set of symbols that subscribers are
+ * interested in, which must be known symbols. The events are filtered and reduced to
+ * just the symbol and prices by the storage members, using a {@link PriceUpdateTransformer}.
+ * A publisher stops, removing its listener and thread, once all its subscribers have
+ * disconnected, and a new publisher is started for the next subscriber to its symbols.
+ */
+public class PriceUpdatePublisher {
+    /**
+     * System property to set the window in milliseconds that price updates are coalesced over.
+     */
+    public static final String WINDOW_PROPERTY = "price.update.window";
+
+    /**
+     * The name of the events sent to subscribers.
+     */
+    public static final String EVENT_NAME = "priceUpdates";
+
+    /**
+     * The {@link PriceUpdatePublisher}s for this member, keyed by their symbols.
+     */
+    private static final Map<Set<String>, PriceUpdatePublisher> PUBLISHERS = new ConcurrentHashMap<>();
+
+    /**
+     * The symbols to publish, or an empty set for all symbols.
+     */
+    private final SortedSet<String> symbols;
+
+    /**
+     * The window in milliseconds that price updates are coalesced over.
+     */
+    private final long window = Long.getLong(WINDOW_PROPERTY, 250L);
+
+    /**
+     * The pending price update for each symbol.
+     */
+    private final Map<String, PriceUpdate> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The number of price updates received from the cache.
+     */
+    private final AtomicLong received = new AtomicLong();
+
+    /**
+     * The number of price updates replaced by a later update within the same window.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * The number of batched events sent.
+     */
+    private final AtomicLong batches = new AtomicLong();
+
+    /**
+     * The subscribers.
+     */
+    private final Set<SseEventSink> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The {@link Sse} used to create events, set on the first subscription.
+     */
+    private Sse sse;
+
+    /**
+     * The broadcaster for the subscribers, created on the first subscription.
+     */
+    private SseBroadcaster broadcaster;
+
+    /**
+     * The executor that publishes the price updates, created on the first subscription.
+     */
+    private ScheduledExecutorService executor;
+
+    /**
+     * The listener for the {@link Price} cache, added on the first subscription.
+     */
+    private MapListener<String, Price> listener;
+
+    /**
+     * The filter for the listener.
+     */
+    private MapEventTransformerFilter<String, Price> eventFilter;
+
+    /**
+     * Flag indicating if the publisher has stopped.
+     */
+    private boolean stopped;
+
+    /**
+     * Constructs a {@link PriceUpdatePublisher}.
+     *
+     * @param symbols  the symbols to publish, or an empty set for all symbols
+     */
+    private PriceUpdatePublisher(SortedSet<String> symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * Subscribe an event sink to the price updates for the specified symbols, starting
+     * a publisher for the symbols if there isn't one.
+     *
+     * @param symbols    the symbols to publish, or an empty set for all symbols
+     * @param sse        the {@link Sse} to create events
+     * @param eventSink  the event sink to subscribe
+     *
+     * @throws IllegalArgumentException if any of the symbols are not known
+     */
+    public static void subscribe(SortedSet<String> symbols, Sse sse, SseEventSink eventSink) {
+        for (String symbol : symbols) {
+            if (!SymbolDictionary.getSymbols().contains(symbol)) {
+                throw new IllegalArgumentException("Unknown symbol " + symbol);
+            }
+        }
+
+        SortedSet<String> setSymbols = Collections.unmodifiableSortedSet(new TreeSet<>(symbols));
+
+        // a publisher that stopped after it was looked up can't be subscribed to, so
+        // is replaced by a new publisher
+        while (true) {
+            // only the cheap construction happens in the map, the listener is added on subscribing
+            PriceUpdatePublisher publisher =
+                    PUBLISHERS.computeIfAbsent(setSymbols, key -> new PriceUpdatePublisher(setSymbols));
+
+            if (publisher.subscribe(sse, eventSink)) {
+                return;
+            }
+
+            PUBLISHERS.remove(setSymbols, publisher);
+        }
+    }
+
+    /**
+     * Obtain the statistics for all the publishers on this member.
+     *
+     * @return the statistics for each publisher, keyed by its symbols
+     */
+    public static Map<String, Map<String, Object>> getAllStatistics() {
+        Map<String, Map<String, Object>> mapStats = new TreeMap<>();
+
+        PUBLISHERS.forEach((setSymbols, publisher) ->
+                mapStats.put(setSymbols.isEmpty() ? "*" : String.join(",", setSymbols), publisher.getStatistics()));
+
+        return mapStats;
+    }
+
+    /**
+     * Subscribe an event sink to the price updates, starting the publisher if this
+     * is the first subscription.
+     *
+     * @param sse        the {@link Sse} to create events
+     * @param eventSink  the event sink to subscribe
+     *
+     * @return {@code true} if the event sink was subscribed, or {@code false} if the
+     *         publisher has stopped
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private synchronized boolean subscribe(Sse sse, SseEventSink eventSink) {
+        if (stopped) {
+            return false;
+        }
+
+        if (broadcaster == null) {
+            try {
+                this.sse = sse;
+                this.broadcaster = sse.newBroadcaster();
+
+                executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "PriceUpdatePublisher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+                executor.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+
+                Filter<Price> filter = symbols.isEmpty() ? Filters.always() : Filters.in(Price::getSymbol, symbols);
+
+                // the listener receives the transformed events, which only contain the prices
+                listener = (MapListener) new SimpleMapListener<String, Double>()
+                        .addUpdateHandler(e -> onUpdate(new PriceUpdate(e.getKey(), e.getOldValue(), e.getNewValue())));
+
+                // the events are filtered and transformed on the storage members
+                eventFilter = new MapEventTransformerFilter<>(new MapEventFilter<>(MapEventFilter.E_UPDATED, filter),
+                                                              new PriceUpdateTransformer());
+
+                Utilities.getPricesCache().addMapListener(listener, eventFilter, false);
+            }
+            catch (RuntimeException e) {
+                // the next subscriber starts a new publisher
+                PUBLISHERS.remove(symbols, this);
+                stop();
+                throw e;
+            }
+        }
+
+        subscribers.add(eventSink);
+        broadcaster.register(eventSink);
+
+        return true;
+    }
+
+    /**
+     * Obtain the number of subscribers that are connected.
+     *
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount() {
+        return (int) subscribers.stream().filter(sink -> !sink.isClosed()).count();
+    }
+
+    /**
+     * Obtain the number of symbols with a pending price update.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return pending.size();
+    }
+
+    /**
+     * Obtain the number of price updates received from the cache.
+     *
+     * @return the number of price updates received
+     */
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    /**
+     * Obtain the number of price updates that were replaced by a later update
+     * for the same symbol within a window.
+     *
+     * @return the number of price updates dropped
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Obtain the number of batched events sent.
+     *
+     * @return the number of batched events sent
+     */
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    /**
+     * Obtain the statistics for this publisher.
+     *
+     * @return the statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> mapStats = new LinkedHashMap<>();
+
+        mapStats.put("window", window);
+        mapStats.put("subscribers", getSubscriberCount());
+        mapStats.put("queueDepth", getQueueDepth());
+        mapStats.put("received", getReceivedCount());
+        mapStats.put("dropped", getDroppedCount());
+        mapStats.put("batches", getBatchCount());
+
+        return mapStats;
+    }
+
+    /**
+     * Record a price update, coalescing it with any pending update for the symbol.
+     *
+     * @param update  the price update
+     */
+    private void onUpdate(PriceUpdate update) {
+        received.incrementAndGet();
+
+        pending.merge(update.getSymbol(), update, (previous, latest) -> {
+            dropped.incrementAndGet();
+            return new PriceUpdate(latest.getSymbol(), previous.getOldPrice(), latest.getNewPrice());
+        });
+    }
+
+    /**
+     * Send the pending price updates to the subscribers as a single event.
+     */
+    private void flush() {
+        try {
+            subscribers.removeIf(SseEventSink::isClosed);
+
+            if (subscribers.isEmpty() && stopIfIdle()) {
+                return;
+            }
+
+            List<PriceUpdate> listUpdates = new ArrayList<>(pending.size());
+
+            for (String symbol : pending.keySet()) {
+                PriceUpdate update = pending.remove(symbol);
+
+                if (update != null) {
+                    listUpdates.add(update);
+                }
+            }
+
+            if (!listUpdates.isEmpty()) {
+                broadcaster.broadcast(sse.newEventBuilder()
+                                         .name(EVENT_NAME)
+                                         .data(List.class, listUpdates)
+                                         .mediaType(APPLICATION_JSON_TYPE)
+                                         .build());
+                batches.incrementAndGet();
+            }
+        }
+        catch (Exception e) {
+            // keep publishing in subsequent windows
+            Logger.err("Failed to publish price updates", e);
+        }
+    }
+
+    /**
+     * Remove and stop the publisher if it has no subscribers, which is decided while
+     * holding the same lock as subscribing, so a subscriber is never added to a
+     * stopped publisher.
+     *
+     * @return {@code true} if the publisher was stopped
+     */
+    private synchronized boolean stopIfIdle() {
+        if (subscribers.isEmpty()) {
+            PUBLISHERS.remove(symbols, this);
+            stop();
+        }
+
+        return stopped;
+    }
+
+    /**
+     * Stop publishing, once the publisher has been removed.
+     */
+    private synchronized void stop() {
+        if (!stopped) {
+            stopped = true;
+
+            if (listener != null) {
+                try {
+                    Utilities.getPricesCache().removeMapListener(listener, eventFilter);
+                }
+                catch (Exception e) {
+                    Logger.err("Failed to remove the price listener", e);
+                }
+            }
+
+            if (broadcaster != null) {
+                broadcaster.close();
+            }
+
+            if (executor != null) {
+                executor.shutdown();
+            }
+
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * File: PriceView.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.coherence.demo.model.Price;
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.Cluster;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.cache.ContinuousQueryCache;
+
+import com.tangosol.net.management.Registry;
+
+import com.tangosol.util.listener.SimpleMapListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A local view of the {@link Price} cache, so that the prices are read from memory
+ * rather than from the storage members.
+ * <p>
+ * The view is a {@link ContinuousQueryCache} of all the prices, which is created when
+ * first used, so only exists on the members that serve the REST services. It is kept
+ * up to date by the events for the changes to the prices, which are delivered to the
+ * members with a view. A price that is not in the view, such as one for a symbol that
+ * was added before the view received the event, is read from the cache.
+ * <p>
+ * The statistics are registered with the Coherence management framework as
+ * {@code type=PriceView}.
+ */
+public class PriceView
+        implements PriceViewMBean {
+
+    /**
+     * The {@link PriceView} for this member, created when first used.
+     */
+    private static volatile PriceView instance;
+
+    /**
+     * The prices cache.
+     */
+    private final NamedCache<String, Price> cache;
+
+    /**
+     * The view of the prices cache.
+     */
+    private final ContinuousQueryCache<String, Price, Price> view;
+
+    /**
+     * The number of prices read from the view.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of prices read from the cache.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The number of changes received by the view.
+     */
+    private final LongAdder updates = new LongAdder();
+
+    /**
+     * Constructs a {@link PriceView}.
+     *
+     * @param cache  the prices cache
+     */
+    private PriceView(NamedCache<String, Price> cache) {
+        this.cache = cache;
+        this.view = new ContinuousQueryCache<>(cache);
+
+        view.addMapListener(new SimpleMapListener<String, Price>().addEventHandler(e -> updates.increment()));
+    }
+
+    /**
+     * Obtain the {@link PriceView} for this member, creating it if this is the first
+     * use, or if the previous view is no longer active.
+     *
+     * @return the {@link PriceView}
+     */
+    public static PriceView getInstance() {
+        PriceView priceView = instance;
+
+        if (priceView == null || !priceView.view.isActive()) {
+            synchronized (PriceView.class) {
+                priceView = instance;
+
+                if (priceView == null || !priceView.view.isActive()) {
+                    priceView = new PriceView(Utilities.getPricesCache());
+                    priceView.register();
+                    instance = priceView;
+                }
+            }
+        }
+
+        return priceView;
+    }
+
+    /**
+     * Obtain the current price of every symbol.
+     *
+     * @return the prices, keyed by symbol
+     */
+    public Map<String, Double> getPrices() {
+        Map<String, Double> mapPrices = new HashMap<>();
+
+        view.forEach((symbol, price) -> mapPrices.put(symbol, price.getPrice()));
+        hits.add(mapPrices.size());
+
+        return mapPrices;
+    }
+
+    /**
+     * Obtain the {@link Price}s of the specified symbols.
+     *
+     * @param symbols  the symbols
+     *
+     * @return the {@link Price}s, keyed by symbol, which excludes any symbols without a price
+     */
+    public Map<String, Price> getAll(Collection<String> symbols) {
+        Map<String, Price> mapPrices = new HashMap<>();
+        Set<String>        setMissed = new HashSet<>();
+
+        for (String symbol : symbols) {
+            Price price = view.get(symbol);
+
+            if (price == null) {
+                setMissed.add(symbol);
+            }
+            else {
+                mapPrices.put(symbol, price);
+            }
+        }
+
+        hits.add(mapPrices.size());
+
+        if (!setMissed.isEmpty()) {
+            misses.add(setMissed.size());
+            mapPrices.putAll(cache.getAll(setMissed));
+        }
+
+        return mapPrices;
+    }
+
+    @Override
+    public int getSize() {
+        return view.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hitCount = getHitCount();
+        long total    = hitCount + getMissCount();
+
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public long getUpdateCount() {
+        return updates.sum();
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        updates.reset();
+    }
+
+    /**
+     * Register the statistics with the Coherence management framework.
+     */
+    private void register() {
+        Cluster  cluster  = CacheFactory.getCluster();
+        Registry registry = cluster.isRunning() ? cluster.getManagement() : null;
+
+        if (registry != null) {
+            registry.register(registry.ensureGlobalName("type=PriceView"), this);
+        }
+    }
+}
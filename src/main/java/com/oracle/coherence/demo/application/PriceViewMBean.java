@@ -0,0 +1,65 @@
+/*
+ * File: PriceViewMBean.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+/**
+ * The management interface for {@link PriceView}.
+ */
+public interface PriceViewMBean {
+
+    /**
+     * Obtain the number of prices in the view.
+     *
+     * @return the number of prices
+     */
+    int getSize();
+
+    /**
+     * Obtain the number of prices read from the view.
+     *
+     * @return the number of hits
+     */
+    long getHitCount();
+
+    /**
+     * Obtain the number of prices that were not in the view, so were read from the cache.
+     *
+     * @return the number of misses
+     */
+    long getMissCount();
+
+    /**
+     * Obtain the proportion of the prices read from the view.
+     *
+     * @return the hit ratio, between {@code 0} and {@code 1}
+     */
+    double getHitRatio();
+
+    /**
+     * Obtain the number of changes to the prices received by the view.
+     *
+     * @return the number of changes
+     */
+    long getUpdateCount();
+
+    /**
+     * Reset the statistics.
+     */
+    void resetStatistics();
+}
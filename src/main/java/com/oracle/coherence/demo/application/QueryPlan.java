@@ -0,0 +1,433 @@
+/*
+ * File: QueryPlan.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.tangosol.util.QueryRecord;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The plan of a query against the trades, recorded by a
+ * {@link com.tangosol.util.aggregator.QueryRecorder}, in a form that can be returned
+ * by the {@link QueryPlanResource}.
+ * <p>
+ * There is a {@link Partial} plan for each set of partitions that evaluated the
+ * query in the same way, with the {@link Step}s taken to evaluate each filter. The
+ * index hit ratio is the proportion of the index lookups that found an index.
+ */
+@XmlRootElement(name = "queryPlan")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+public class QueryPlan {
+    /**
+     * The sequence number of the plan.
+     */
+    private final long id;
+
+    /**
+     * The time in milliseconds the query was run.
+     */
+    private final long timestamp;
+
+    /**
+     * The type of the record, either {@code explain} or {@code trace}.
+     */
+    private final String type;
+
+    /**
+     * The description of the filter.
+     */
+    private final String filter;
+
+    /**
+     * The time in milliseconds taken to run the query, as seen by the caller.
+     */
+    private final long elapsed;
+
+    /**
+     * The plans for each set of partitions.
+     */
+    private final List<Partial> partials = new ArrayList<>();
+
+    /**
+     * The indexes used by the query.
+     */
+    private final Set<String> indexes = new TreeSet<>();
+
+    /**
+     * The number of index lookups.
+     */
+    private int lookups;
+
+    /**
+     * The number of index lookups that found an index.
+     */
+    private int indexedLookups;
+
+    /**
+     * Constructs a {@link QueryPlan}.
+     *
+     * @param id         the sequence number of the plan
+     * @param timestamp  the time in milliseconds the query was run
+     * @param filter     the description of the filter
+     * @param elapsed    the time in milliseconds taken to run the query
+     * @param record     the {@link QueryRecord}
+     */
+    public QueryPlan(long id, long timestamp, String filter, long elapsed, QueryRecord record) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.type = record.getType().name().toLowerCase();
+        this.filter = filter;
+        this.elapsed = elapsed;
+
+        for (QueryRecord.PartialResult result : record.getResults()) {
+            partials.add(new Partial(result));
+        }
+    }
+
+    /**
+     * Obtain the sequence number of the plan.
+     *
+     * @return the sequence number
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Obtain the time in milliseconds the query was run.
+     *
+     * @return the time
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Obtain the type of the record, either {@code explain} or {@code trace}.
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Obtain the description of the filter.
+     *
+     * @return the description of the filter
+     */
+    public String getFilter() {
+        return filter;
+    }
+
+    /**
+     * Obtain the time in milliseconds taken to run the query, as seen by the caller.
+     *
+     * @return the elapsed time
+     */
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Obtain the time in milliseconds taken to evaluate the filters, summed across
+     * the partitions, which is only recorded by a trace.
+     *
+     * @return the duration
+     */
+    public long getDuration() {
+        return partials.stream().mapToLong(Partial::getDuration).sum();
+    }
+
+    /**
+     * Obtain the indexes used by the query.
+     *
+     * @return the descriptions of the extractors of the indexes used
+     */
+    public Set<String> getIndexes() {
+        return Collections.unmodifiableSet(indexes);
+    }
+
+    /**
+     * Obtain the number of index lookups.
+     *
+     * @return the number of index lookups
+     */
+    public int getLookups() {
+        return lookups;
+    }
+
+    /**
+     * Obtain the proportion of the index lookups that found an index.
+     *
+     * @return the index hit ratio, or zero if there were no lookups
+     */
+    public double getIndexHitRatio() {
+        return lookups == 0 ? 0 : (double) indexedLookups / lookups;
+    }
+
+    /**
+     * Obtain the plans for each set of partitions.
+     *
+     * @return the plans
+     */
+    public List<Partial> getPartials() {
+        return Collections.unmodifiableList(partials);
+    }
+
+    // ----- inner class: Partial -------------------------------------------
+
+    /**
+     * The plan for a set of partitions.
+     */
+    @XmlAccessorType(XmlAccessType.PROPERTY)
+    public class Partial {
+        /**
+         * The partitions.
+         */
+        private final String partitions;
+
+        /**
+         * The number of partitions.
+         */
+        private final int partitionCount;
+
+        /**
+         * The steps to evaluate the filter.
+         */
+        private final List<Step> steps = new ArrayList<>();
+
+        /**
+         * Constructs a {@link Partial}.
+         *
+         * @param result  the {@link QueryRecord.PartialResult}
+         */
+        Partial(QueryRecord.PartialResult result) {
+            this.partitions = String.valueOf(result.getPartitions());
+            this.partitionCount = result.getPartitions() == null ? 0 : result.getPartitions().cardinality();
+
+            for (QueryRecord.PartialResult.Step step : result.getSteps()) {
+                addStep(step, 0);
+            }
+        }
+
+        /**
+         * Obtain the description of the partitions.
+         *
+         * @return the partitions
+         */
+        public String getPartitions() {
+            return partitions;
+        }
+
+        /**
+         * Obtain the number of partitions.
+         *
+         * @return the number of partitions
+         */
+        public int getPartitionCount() {
+            return partitionCount;
+        }
+
+        /**
+         * Obtain the time in milliseconds taken to evaluate the filter for the partitions.
+         *
+         * @return the duration
+         */
+        public long getDuration() {
+            return steps.stream().filter(step -> step.getDepth() == 0).mapToLong(Step::getDuration).sum();
+        }
+
+        /**
+         * Obtain the steps to evaluate the filter, in the order they were taken, with
+         * the steps for nested filters following the step for the enclosing filter.
+         *
+         * @return the steps
+         */
+        public List<Step> getSteps() {
+            return Collections.unmodifiableList(steps);
+        }
+
+        /**
+         * Add a step, and its nested steps, recording the index lookups.
+         *
+         * @param step   the {@link QueryRecord.PartialResult.Step}
+         * @param depth  the nesting depth of the step
+         */
+        private void addStep(QueryRecord.PartialResult.Step step, int depth) {
+            List<String> listIndexes = new ArrayList<>();
+
+            for (QueryRecord.PartialResult.IndexLookupRecord lookup : step.getIndexLookupRecords()) {
+                String index = lookup.getIndexDescription();
+
+                lookups++;
+                if (index == null) {
+                    listIndexes.add(lookup.getExtractorDescription() + ": no index");
+                }
+                else {
+                    indexedLookups++;
+                    indexes.add(lookup.getExtractorDescription());
+                    listIndexes.add(lookup.getExtractorDescription() + ": " + index);
+                }
+            }
+
+            steps.add(new Step(step, depth, listIndexes));
+
+            for (QueryRecord.PartialResult.Step nested : step.getSteps()) {
+                addStep(nested, depth + 1);
+            }
+        }
+    }
+
+    // ----- inner class: Step ----------------------------------------------
+
+    /**
+     * A step to evaluate a filter.
+     */
+    @XmlAccessorType(XmlAccessType.PROPERTY)
+    public static class Step {
+        /**
+         * The nesting depth of the step.
+         */
+        private final int depth;
+
+        /**
+         * The description of the filter.
+         */
+        private final String filter;
+
+        /**
+         * The estimated cost of evaluating the filter.
+         */
+        private final int efficiency;
+
+        /**
+         * The number of keys before the filter was evaluated.
+         */
+        private final int preFilterKeySetSize;
+
+        /**
+         * The number of keys after the filter was evaluated.
+         */
+        private final int postFilterKeySetSize;
+
+        /**
+         * The time in milliseconds taken to evaluate the filter.
+         */
+        private final long duration;
+
+        /**
+         * The index lookups.
+         */
+        private final List<String> indexLookups;
+
+        /**
+         * Constructs a {@link Step}.
+         *
+         * @param step          the {@link QueryRecord.PartialResult.Step}
+         * @param depth         the nesting depth of the step
+         * @param indexLookups  the index lookups
+         */
+        Step(QueryRecord.PartialResult.Step step, int depth, List<String> indexLookups) {
+            this.depth = depth;
+            this.filter = step.getFilterDescription();
+            this.efficiency = step.getEfficiency();
+            this.preFilterKeySetSize = step.getPreFilterKeySetSize();
+            this.postFilterKeySetSize = step.getPostFilterKeySetSize();
+            this.duration = step.getDuration();
+            this.indexLookups = indexLookups;
+        }
+
+        /**
+         * Obtain the nesting depth of the step.
+         *
+         * @return the depth
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Obtain the description of the filter.
+         *
+         * @return the description of the filter
+         */
+        public String getFilter() {
+            return filter;
+        }
+
+        /**
+         * Obtain the estimated cost of evaluating the filter, where a lower value
+         * is more efficient.
+         *
+         * @return the efficiency
+         */
+        public int getEfficiency() {
+            return efficiency;
+        }
+
+        /**
+         * Obtain the number of keys before the filter was evaluated, which is only
+         * recorded by a trace.
+         *
+         * @return the number of keys
+         */
+        public int getPreFilterKeySetSize() {
+            return preFilterKeySetSize;
+        }
+
+        /**
+         * Obtain the number of keys after the filter was evaluated, which is only
+         * recorded by a trace.
+         *
+         * @return the number of keys
+         */
+        public int getPostFilterKeySetSize() {
+            return postFilterKeySetSize;
+        }
+
+        /**
+         * Obtain the time in milliseconds taken to evaluate the filter, which is
+         * only recorded by a trace.
+         *
+         * @return the duration
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * Obtain the index lookups, each of which is the extractor followed by the
+         * description of its index, or {@code no index}.
+         *
+         * @return the index lookups
+         */
+        public List<String> getIndexLookups() {
+            return indexLookups;
+        }
+    }
+}
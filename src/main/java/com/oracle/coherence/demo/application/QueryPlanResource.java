@@ -0,0 +1,236 @@
+/*
+ * File: QueryPlanResource.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.coherence.demo.model.Trade;
+
+import com.tangosol.net.CacheFactory;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+
+import com.tangosol.util.aggregator.QueryRecorder;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+
+import jakarta.ws.rs.core.Response;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * A JAX-RS resource to explain or trace a query against the trades using a
+ * {@link QueryRecorder}, so the effect of the indexes added and removed by
+ * {@link DeveloperResource} can be seen on the trades in the cluster.
+ * <p>
+ * The available operations are:
+ * <ul>
+ *     <li>
+ *         {@code GET query-plan/explain?symbol=&minQuantity=&minPurchaseValue=} {@code ->} returns
+ *         the plan of the query, with the estimated cost of each step
+ *     </li>
+ *     <li>
+ *         {@code GET query-plan/trace?symbol=&minQuantity=&minPurchaseValue=} {@code ->} runs the
+ *         query and returns the plan, with the keys matched and time taken by each step
+ *     </li>
+ *     <li>
+ *         {@code GET query-plan/history} {@code ->} returns the recent plans, most recent first
+ *     </li>
+ *     <li>
+ *         {@code DELETE query-plan/history} {@code ->} clears the recent plans
+ *     </li>
+ * </ul>
+ * The query is the conjunction of the specified conditions, each of which uses one
+ * of the indexes, or all the trades if no conditions are specified.
+ * <p>
+ * <strong>Note:</strong> This is an example only and does not include security
+ * capabilities to protect REST end-points.
+ */
+@Path("/query-plan")
+public class QueryPlanResource {
+    /**
+     * System property to set the number of plans kept in the history.
+     */
+    public static final String HISTORY_SIZE_PROPERTY = "query.plan.history";
+
+    /**
+     * The number of plans kept in the history.
+     */
+    private static final int HISTORY_SIZE = Integer.getInteger(HISTORY_SIZE_PROPERTY, 50);
+
+    /**
+     * The recent plans, most recent first.
+     */
+    private static final Deque<QueryPlan> HISTORY = new LinkedList<>();
+
+    /**
+     * The sequence number of the last plan.
+     */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Constructs a {@link QueryPlanResource}.
+     */
+    public QueryPlanResource() {
+    }
+
+    /**
+     * Explain or trace a query against the trades.
+     *
+     * @param type              the type of record, either {@code explain} or {@code trace}
+     * @param symbol            the symbol of the trades, or {@code null} for any symbol
+     * @param minQuantity       the minimum quantity of the trades, or {@code null} for any quantity
+     * @param minPurchaseValue  the minimum purchase value of the trades, or {@code null} for any value
+     *
+     * @return the {@link QueryPlan}, or {@code 404} if the type of record is not known
+     */
+    @GET
+    @Path("{type}")
+    @Produces(APPLICATION_JSON)
+    public CompletionStage<Response> getQueryPlan(@PathParam("type") String type,
+                                                  @QueryParam("symbol") String symbol,
+                                                  @QueryParam("minQuantity") Integer minQuantity,
+                                                  @QueryParam("minPurchaseValue") Double minPurchaseValue) {
+        QueryRecorder.RecordType recordType;
+
+        switch (type) {
+            case "explain":
+                recordType = QueryRecorder.RecordType.EXPLAIN;
+                break;
+
+            case "trace":
+                recordType = QueryRecorder.RecordType.TRACE;
+                break;
+
+            default:
+                return CompletableFuture.completedFuture(Response.status(Response.Status.NOT_FOUND).build());
+        }
+
+        Filter<Trade> filter = createFilter(symbol, minQuantity, minPurchaseValue);
+        long          start  = System.currentTimeMillis();
+
+        // the response is completed off the Coherence service thread that completes the aggregation
+        return Utilities.getTradesCache().async()
+                        .aggregate(filter, new QueryRecorder<>(recordType))
+                        .thenApplyAsync(record -> {
+                            QueryPlan plan = new QueryPlan(SEQUENCE.incrementAndGet(),
+                                                           CacheFactory.getCluster().getTimeMillis(),
+                                                           filter.toString(),
+                                                           System.currentTimeMillis() - start,
+                                                           record);
+                            record(plan);
+
+                            return Response.ok(plan).build();
+                        }, ResourceExecutor.get());
+    }
+
+    /**
+     * Return the recent plans.
+     *
+     * @return the plans, most recent first
+     */
+    @GET
+    @Path("history")
+    @Produces(APPLICATION_JSON)
+    public Response getHistory() {
+        synchronized (HISTORY) {
+            return Response.ok(new ArrayList<>(HISTORY)).build();
+        }
+    }
+
+    /**
+     * Clear the recent plans.
+     *
+     * @return {@link Response#ok}
+     */
+    @DELETE
+    @Path("history")
+    public Response clearHistory() {
+        synchronized (HISTORY) {
+            HISTORY.clear();
+        }
+
+        return Response.ok().build();
+    }
+
+    /**
+     * Create the {@link Filter} for the query, which is the conjunction of the
+     * specified conditions.
+     *
+     * @param symbol            the symbol of the trades, or {@code null} for any symbol
+     * @param minQuantity       the minimum quantity of the trades, or {@code null} for any quantity
+     * @param minPurchaseValue  the minimum purchase value of the trades, or {@code null} for any value
+     *
+     * @return the {@link Filter}
+     */
+    @SuppressWarnings("unchecked")
+    private static Filter<Trade> createFilter(String symbol, Integer minQuantity, Double minPurchaseValue) {
+        List<Filter<Trade>> listFilters = new ArrayList<>();
+
+        if (symbol != null) {
+            listFilters.add(Filters.equal(Trade::getSymbol, symbol));
+        }
+        if (minQuantity != null) {
+            listFilters.add(Filters.greaterEqual(Trade::getQuantity, minQuantity));
+        }
+        if (minPurchaseValue != null) {
+            listFilters.add(Filters.greaterEqual(Trade::getPurchaseValue, minPurchaseValue));
+        }
+
+        switch (listFilters.size()) {
+            case 0:
+                return Filters.always();
+
+            case 1:
+                return listFilters.get(0);
+
+            default:
+                return Filters.all(listFilters.toArray(new Filter[0]));
+        }
+    }
+
+    /**
+     * Add a plan to the history, discarding the oldest plans.
+     *
+     * @param plan  the {@link QueryPlan}
+     */
+    private static void record(QueryPlan plan) {
+        synchronized (HISTORY) {
+            HISTORY.addFirst(plan);
+
+            while (HISTORY.size() > HISTORY_SIZE) {
+                HISTORY.removeLast();
+            }
+        }
+    }
+}
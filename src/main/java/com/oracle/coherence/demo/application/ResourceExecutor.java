@@ -0,0 +1,132 @@
+/*
+ * File: ResourceExecutor.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.coherence.common.base.Logger;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The executors for the work of the REST resources that blocks, such as the developer
+ * commands and starting members, so that it does not hold the HTTP worker threads.
+ * <p>
+ * By default, the work runs on a fixed number of platform threads. When the
+ * {@value #VIRTUAL_THREADS_PROPERTY} system property is {@code true}, each task runs on
+ * its own virtual thread instead, so the number of blocked requests a member can hold is
+ * not limited by the number of platform threads. Virtual threads are created using
+ * reflection, as the demo is compiled for Java 17, and platform threads are used if the
+ * JVM does not support them.
+ */
+public final class ResourceExecutor {
+    /**
+     * System property to run the blocking work of the REST resources on virtual threads.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "rest.virtual.threads";
+
+    /**
+     * Flag indicating if virtual threads were requested.
+     */
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY);
+
+    /**
+     * The shared executor for the REST resources.
+     */
+    private static final ExecutorService EXECUTOR =
+            create("ResourceExecutor", Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Instances not allowed.
+     */
+    private ResourceExecutor() {
+        throw new IllegalStateException("illegal instantiation");
+    }
+
+    /**
+     * Obtain the shared executor for the REST resources.
+     *
+     * @return the shared executor
+     */
+    public static ExecutorService get() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Create an executor that runs each task on a virtual thread when the
+     * {@value #VIRTUAL_THREADS_PROPERTY} system property is {@code true}, or otherwise
+     * on a fixed number of daemon platform threads.
+     *
+     * @param name      the name of the threads
+     * @param nThreads  the number of platform threads
+     *
+     * @return the executor
+     */
+    public static ExecutorService create(String name, int nThreads) {
+        if (VIRTUAL_THREADS) {
+            ThreadFactory factory = createVirtualThreadFactory(name);
+
+            if (factory != null) {
+                try {
+                    return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                                                            .invoke(null, factory);
+                }
+                catch (ReflectiveOperationException e) {
+                    Logger.warn("Failed to create a virtual thread executor for " + name + ": " + e);
+                }
+            }
+        }
+
+        return Executors.newFixedThreadPool(nThreads, runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns {@code true} if the executors use virtual threads.
+     *
+     * @return {@code true} if the executors use virtual threads
+     */
+    public static boolean isVirtual() {
+        return VIRTUAL_THREADS && createVirtualThreadFactory("ResourceExecutor") != null;
+    }
+
+    /**
+     * Create a factory for named virtual threads, using {@code Thread.ofVirtual()}.
+     *
+     * @param name  the prefix of the thread names
+     *
+     * @return the factory, or {@code null} if the JVM does not support virtual threads
+     */
+    private static ThreadFactory createVirtualThreadFactory(String name) {
+        try {
+            Class<?> clzBuilder = Class.forName("java.lang.Thread$Builder");
+            Object   builder    = Thread.class.getMethod("ofVirtual").invoke(null);
+
+            builder = clzBuilder.getMethod("name", String.class, long.class).invoke(builder, name + '-', 0L);
+
+            return (ThreadFactory) clzBuilder.getMethod("factory").invoke(builder);
+        }
+        catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
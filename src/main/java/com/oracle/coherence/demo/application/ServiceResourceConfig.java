@@ -1,7 +1,7 @@
 /*
  * File: ServiceResourceConfig.java
  *
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -42,6 +42,8 @@ public class ServiceResourceConfig
         register(EventsResource.class);
         register(StartSecondaryResource.class);
         register(DeveloperResource.class);
+        register(JobResource.class);
+        register(QueryPlanResource.class);
         register(PersistenceResource.class);
         register(ManagementResource.class);
         register(TracingFilter.class);
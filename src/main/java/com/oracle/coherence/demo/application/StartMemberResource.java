@@ -1,7 +1,7 @@
 /*
  * File: StartMemberResource.java
  *
- * Copyright (c) 2015, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -37,6 +37,9 @@ import com.oracle.bedrock.runtime.java.options.SystemProperty;
 import com.oracle.bedrock.runtime.options.DisplayName;
 
 import com.oracle.coherence.common.base.Logger;
+import com.oracle.coherence.demo.cachestore.CoalescingCacheStore;
+import com.oracle.coherence.demo.cachestore.JdbcCacheStore;
+import com.oracle.coherence.demo.model.TradeId;
 import com.tangosol.net.CacheFactory;
 import com.tangosol.net.Cluster;
 import com.tangosol.net.Coherence;
@@ -58,6 +61,9 @@ import java.lang.management.ManagementFactory;
 
 import java.util.List;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import static com.oracle.bedrock.deferred.DeferredHelper.eventually;
 import static com.oracle.bedrock.deferred.DeferredHelper.invoking;
 
@@ -82,13 +88,31 @@ public class StartMemberResource
 
     /**
      * Starts additional cluster members.
+     * <p>
+     * The members are started by the {@link ResourceExecutor}, as waiting for them to
+     * join the cluster can take several seconds.
      *
      * @param serverCount the number of servers to start
      *
      * @return a response indicating the status of the member creation
      */
     @GET
-    public Response createMember(@PathParam("serverCount") int serverCount) {
+    public CompletionStage<Response> createMember(@PathParam("serverCount") int serverCount) {
+        // the span is active on the request thread only
+        Span span = GlobalTracer.get().activeSpan();
+
+        return CompletableFuture.supplyAsync(() -> createMember(serverCount, span), ResourceExecutor.get());
+    }
+
+    /**
+     * Starts additional cluster members.
+     *
+     * @param serverCount the number of servers to start
+     * @param span        the active span of the request, or {@code null}
+     *
+     * @return a response indicating the status of the member creation
+     */
+    private Response createMember(int serverCount, Span span) {
         Cluster      cluster        = CacheFactory.getCluster();
         String       clusterName    = cluster.getClusterName();
         List<String> inputArguments = ManagementFactory.getRuntimeMXBean().getInputArguments();
@@ -102,7 +126,7 @@ public class StartMemberResource
 
             try {
                 // strip off unwanted arguments other than memory
-                List<String> newArguments = inputArguments.stream().filter(s->s.contains("-Xm")).toList();
+                List<String> newArguments = inputArguments.stream().filter(s->s.contains("-Xm") || s.contains("MaxDirectMemorySize")).toList();
 
                 // start the new cache server
                 CoherenceCacheServer server =
@@ -128,8 +152,20 @@ public class StartMemberResource
                                         System.getProperty(Launcher.PRIMARY_CLUSTER_PROPERTY)),
                                 SystemProperty.of(Launcher.SECONDARY_CLUSTER_PROPERTY,
                                         System.getProperty(Launcher.SECONDARY_CLUSTER_PROPERTY)),
+                                SystemProperty.of(TradeId.BUCKETS_PROPERTY, TradeId.BUCKETS),
+                                SystemProperty.of(JdbcCacheStore.CLASS_PROPERTY,
+                                        System.getProperty(JdbcCacheStore.CLASS_PROPERTY)),
+                                SystemProperty.of(CoalescingCacheStore.WRITE_DELAY_PROPERTY,
+                                        System.getProperty(CoalescingCacheStore.WRITE_DELAY_PROPERTY)),
+                                SystemProperty.of(CoalescingCacheStore.WRITE_BATCH_FACTOR_PROPERTY,
+                                        System.getProperty(CoalescingCacheStore.WRITE_BATCH_FACTOR_PROPERTY)),
+                                SystemProperty.of(CoalescingCacheStore.WRITE_REQUEUE_THRESHOLD_PROPERTY,
+                                        System.getProperty(CoalescingCacheStore.WRITE_REQUEUE_THRESHOLD_PROPERTY)),
+                                SystemProperty.of(Utilities.STORAGE_SCHEME_PROPERTY,
+                                        System.getProperty(Utilities.STORAGE_SCHEME_PROPERTY)),
+                                SystemProperty.of(Utilities.RAM_JOURNAL_SIZE_PROPERTY,
+                                        System.getProperty(Utilities.RAM_JOURNAL_SIZE_PROPERTY)),
                                 JvmOptions.include(newArguments.toArray(new String[0])));
-                Span span = GlobalTracer.get().activeSpan();
                 Utilities.spanLog(span, "Starting new member");
 
                 // wait for the new cache server to join the cluster
@@ -1,7 +1,7 @@
 /*
  * File: StartSecondaryResource.java
  *
- * Copyright (c) 2015, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -40,6 +40,11 @@ import com.oracle.bedrock.runtime.java.options.SystemProperty;
 import com.oracle.bedrock.runtime.options.Console;
 import com.oracle.bedrock.runtime.options.DisplayName;
 
+import com.oracle.coherence.demo.cachestore.CoalescingCacheStore;
+import com.oracle.coherence.demo.cachestore.JdbcCacheStore;
+
+import com.oracle.coherence.demo.model.TradeId;
+
 import com.tangosol.net.CacheFactory;
 
 import com.tangosol.util.ResourceRegistry;
@@ -100,7 +105,7 @@ public class StartSecondaryResource {
                                      ? new NullApplicationConsole() : new SystemApplicationConsole();
 
         List<String> inputArguments = ManagementFactory.getRuntimeMXBean().getInputArguments();
-        List<String>        newArguments   = inputArguments.stream().filter(s->s.contains("-Xm")).toList();
+        List<String>        newArguments   = inputArguments.stream().filter(s->s.contains("-Xm") || s.contains("MaxDirectMemorySize")).toList();
 
         try {
             // start the new cache server
@@ -138,7 +143,20 @@ public class StartSecondaryResource {
                             SystemProperty.of(Launcher.PRIMARY_CLUSTER_PROPERTY,
                                     System.getProperty(Launcher.PRIMARY_CLUSTER_PROPERTY)),
                             SystemProperty.of(Launcher.SECONDARY_CLUSTER_PROPERTY,
-                                    System.getProperty(Launcher.SECONDARY_CLUSTER_PROPERTY)));
+                                    System.getProperty(Launcher.SECONDARY_CLUSTER_PROPERTY)),
+                            SystemProperty.of(TradeId.BUCKETS_PROPERTY, TradeId.BUCKETS),
+                            SystemProperty.of(JdbcCacheStore.CLASS_PROPERTY,
+                                    System.getProperty(JdbcCacheStore.CLASS_PROPERTY)),
+                            SystemProperty.of(CoalescingCacheStore.WRITE_DELAY_PROPERTY,
+                                    System.getProperty(CoalescingCacheStore.WRITE_DELAY_PROPERTY)),
+                            SystemProperty.of(CoalescingCacheStore.WRITE_BATCH_FACTOR_PROPERTY,
+                                    System.getProperty(CoalescingCacheStore.WRITE_BATCH_FACTOR_PROPERTY)),
+                            SystemProperty.of(CoalescingCacheStore.WRITE_REQUEUE_THRESHOLD_PROPERTY,
+                                    System.getProperty(CoalescingCacheStore.WRITE_REQUEUE_THRESHOLD_PROPERTY)),
+                            SystemProperty.of(Utilities.STORAGE_SCHEME_PROPERTY,
+                                    System.getProperty(Utilities.STORAGE_SCHEME_PROPERTY)),
+                            SystemProperty.of(Utilities.RAM_JOURNAL_SIZE_PROPERTY,
+                                    System.getProperty(Utilities.RAM_JOURNAL_SIZE_PROPERTY)));
 
             // wait for the new secondary cluster to start
             DeferredHelper.ensure(eventually(invoking(server).getClusterSize()), greaterThan(0));
@@ -0,0 +1,379 @@
+/*
+ * File: TradeLoader.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+
+import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.net.Member;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Creates trades in parallel and loads them into the trades cache.
+ * <p>
+ * Each producer thread creates trades and groups them by the member that owns
+ * their partition, sending a batch to a member using {@link AsyncNamedMap#putAll(Map)}
+ * once it reaches the batch size. The number of batches in flight is bounded, so the
+ * producers wait when the cluster can't keep up.
+ * <p>
+ * A load can be throttled to a maximum number of trades per second, and cancelled,
+ * while it is running, in which case the batches already sent are still written.
+ */
+public class TradeLoader {
+    /**
+     * System property to set the number of trades in each batch.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "trade.loader.batch.size";
+
+    /**
+     * System property to set the number of producer threads.
+     */
+    public static final String PARALLELISM_PROPERTY = "trade.loader.parallelism";
+
+    /**
+     * System property to set the maximum number of batches in flight.
+     */
+    public static final String MAX_IN_FLIGHT_PROPERTY = "trade.loader.max.in.flight";
+
+    /**
+     * The trades cache.
+     */
+    private final NamedCache<TradeId, Trade> tradesCache;
+
+    /**
+     * The number of trades in each batch.
+     */
+    private final int batchSize;
+
+    /**
+     * The number of producer threads.
+     */
+    private final int parallelism;
+
+    /**
+     * The maximum number of batches in flight.
+     */
+    private final int maxInFlight;
+
+    /**
+     * The permits for batches in flight.
+     */
+    private final Semaphore inFlight;
+
+    /**
+     * The number of trades written to the cache.
+     */
+    private final AtomicLong written = new AtomicLong();
+
+    /**
+     * The first failure writing a batch, if any.
+     */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * The maximum number of trades to send per second, or zero if not throttled.
+     */
+    private volatile double maxRate;
+
+    /**
+     * The time in nanoseconds that the next batch may be sent when throttled.
+     */
+    private long nextSendNanos = Long.MIN_VALUE;
+
+    /**
+     * Flag indicating if the load has been cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs a {@link TradeLoader} configured from system properties.
+     *
+     * @param tradesCache  the trades cache to load
+     */
+    public TradeLoader(NamedCache<TradeId, Trade> tradesCache) {
+        this(tradesCache,
+             Integer.getInteger(BATCH_SIZE_PROPERTY, 10_000),
+             Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()),
+             Integer.getInteger(MAX_IN_FLIGHT_PROPERTY, 2 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Constructs a {@link TradeLoader}.
+     *
+     * @param tradesCache  the trades cache to load
+     * @param batchSize    the number of trades in each batch
+     * @param parallelism  the number of producer threads
+     * @param maxInFlight  the maximum number of batches in flight
+     */
+    public TradeLoader(NamedCache<TradeId, Trade> tradesCache, int batchSize, int parallelism, int maxInFlight) {
+        if (batchSize < 1 || parallelism < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("Batch size, parallelism and maximum in flight must be positive");
+        }
+
+        this.tradesCache = tradesCache;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Create and load trades for random symbols at the given prices.
+     *
+     * @param symbols  the symbols to create trades for
+     * @param prices   the current price of each symbol
+     * @param count    the number of trades to create
+     *
+     * @return the number of trades created per second
+     *
+     * @throws IllegalArgumentException if there are no symbols, or a symbol has no price
+     */
+    public double load(String[] symbols, Map<String, Double> prices, int count) {
+        if (symbols.length == 0) {
+            throw new IllegalArgumentException("No symbols to create trades for");
+        }
+
+        // check the prices up front, rather than failing a producer part way through the load
+        for (String symbol : symbols) {
+            if (prices.get(symbol) == null) {
+                throw new IllegalArgumentException("There is no price for the symbol " + symbol);
+            }
+        }
+
+        ExecutorService executor = ResourceExecutor.create("TradeLoader", parallelism);
+
+        long start = System.currentTimeMillis();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(parallelism);
+
+            for (int i = 0; i < parallelism; i++) {
+                // share the trades evenly between the producers
+                int producerCount = count / parallelism + (i < count % parallelism ? 1 : 0);
+
+                futures.add(executor.submit(() -> produce(symbols, prices, producerCount)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            // wait for the remaining batches
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading trades", e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to create trades", e.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new IllegalStateException("Failed to load trades", t);
+        }
+
+        long   elapsed = Math.max(1, System.currentTimeMillis() - start);
+        double rate    = written.get() * 1000.0 / elapsed;
+
+        Logger.info(String.format("Loaded %,d trades in %,d ms (%,.0f per second) using %d producers",
+                                  written.get(), elapsed, rate, parallelism));
+
+        return rate;
+    }
+
+    /**
+     * Obtain the number of trades written to the cache.
+     *
+     * @return the number of trades written
+     */
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * Set the maximum number of trades to send per second, which may be changed while
+     * trades are being loaded.
+     *
+     * @param maxRate  the maximum number of trades per second, or zero to not throttle the load
+     */
+    public void setMaxRate(double maxRate) {
+        if (maxRate < 0) {
+            throw new IllegalArgumentException("Maximum rate must not be negative");
+        }
+
+        this.maxRate = maxRate;
+    }
+
+    /**
+     * Obtain the maximum number of trades to send per second.
+     *
+     * @return the maximum number of trades per second, or zero if the load is not throttled
+     */
+    public double getMaxRate() {
+        return maxRate;
+    }
+
+    /**
+     * Cancel the load, so that no more batches are sent.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Returns {@code true} if the load has been cancelled.
+     *
+     * @return {@code true} if the load has been cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Create trades and send them to the cache in batches for each member.
+     *
+     * @param symbols  the symbols to create trades for
+     * @param prices   the current price of each symbol
+     * @param count    the number of trades to create
+     *
+     * @throws InterruptedException if interrupted waiting to send a batch
+     */
+    private void produce(String[] symbols, Map<String, Double> prices, int count)
+            throws InterruptedException {
+        PartitionedService               service    = (PartitionedService) tradesCache.getCacheService();
+        KeyPartitioningStrategy          strategy   = service.getKeyPartitioningStrategy();
+        Map<Member, Map<TradeId, Trade>> mapBatches = new HashMap<>();
+        Random                           random     = ThreadLocalRandom.current();
+
+        for (int i = 0; i < count && failure.get() == null && !cancelled; i++) {
+            String  symbol = symbols[random.nextInt(symbols.length)];
+            Trade   trade  = new Trade(symbol, random.nextInt(1000) + 1, prices.get(symbol));
+            TradeId key    = new TradeId(symbol, trade.getId());
+
+            // a null owner (the partition is being transferred) is grouped on its own
+            Member              owner = service.getPartitionOwner(strategy.getKeyPartition(key));
+            Map<TradeId, Trade> batch = mapBatches.computeIfAbsent(owner, m -> new HashMap<>());
+
+            batch.put(key, trade);
+
+            if (batch.size() >= batchSize) {
+                send(batch);
+                mapBatches.remove(owner);
+            }
+        }
+
+        for (Map<TradeId, Trade> batch : mapBatches.values()) {
+            if (cancelled) {
+                break;
+            }
+            send(batch);
+        }
+    }
+
+    /**
+     * Asynchronously send a batch of trades to the cache, waiting if the maximum
+     * number of batches are already in flight. The batch is not sent if the load is
+     * cancelled while waiting.
+     *
+     * @param batch  the batch of trades
+     *
+     * @throws InterruptedException if interrupted waiting to send the batch
+     */
+    private void send(Map<TradeId, Trade> batch) throws InterruptedException {
+        throttle(batch.size());
+
+        if (cancelled) {
+            return;
+        }
+
+        inFlight.acquire();
+
+        if (cancelled) {
+            inFlight.release();
+            return;
+        }
+
+        tradesCache.async().putAll(batch).whenComplete((v, t) -> {
+            if (t == null) {
+                written.addAndGet(batch.size());
+            }
+            else {
+                failure.compareAndSet(null, t);
+            }
+            inFlight.release();
+        });
+    }
+
+    /**
+     * Wait until a batch may be sent without exceeding the maximum rate, if the
+     * load is throttled.
+     *
+     * @param size  the number of trades in the batch
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void throttle(int size) throws InterruptedException {
+        double rate = maxRate;
+
+        if (rate <= 0) {
+            return;
+        }
+
+        long sendNanos;
+
+        synchronized (this) {
+            sendNanos     = Math.max(nextSendNanos, System.nanoTime());
+            nextSendNanos = sendNanos + (long) (size * 1.0e9 / rate);
+        }
+
+        // wait in short intervals, so a cancellation is noticed
+        for (long delay = sendNanos - System.nanoTime(); delay > 0 && !cancelled;
+             delay = sendNanos - System.nanoTime()) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(delay, TimeUnit.MILLISECONDS.toNanos(100)));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * File: TradeSummaryInterceptor.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.application;
+
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+import com.oracle.coherence.demo.model.TradeSummary;
+import com.oracle.coherence.demo.model.TradeSummaryKey;
+
+import com.tangosol.net.BackingMapContext;
+import com.tangosol.net.BackingMapManagerContext;
+
+import com.tangosol.net.events.EventInterceptor;
+import com.tangosol.net.events.annotation.Interceptor;
+import com.tangosol.net.events.partition.cache.EntryEvent;
+
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An {@link EventInterceptor} that maintains the partition-local {@link TradeSummary}
+ * for each symbol as {@link Trade}s are inserted, updated and removed.
+ * <p>
+ * The interceptor handles the pre-commit events on the primary owner, so the summaries
+ * are updated in the same partition transaction as the trades. The summaries are not
+ * rebuilt after a partition is transferred or restored from backup, as the interceptor
+ * receives no events for either. Instead, as each summary is an ordinary entry in the
+ * same partition as the trades it describes, the changes to both are backed up together,
+ * and the summaries move with the trades when the partition is transferred or restored.
+ */
+@Interceptor(identifier = "TradeSummaryInterceptor",
+             entryEvents = {EntryEvent.Type.INSERTING, EntryEvent.Type.UPDATING, EntryEvent.Type.REMOVING})
+public class TradeSummaryInterceptor
+        implements EventInterceptor<EntryEvent<TradeId, Trade>> {
+
+    /**
+     * The order in which summaries are enlisted. Using a consistent order ensures
+     * concurrent transactions can't deadlock on the summary entries.
+     */
+    private static final Comparator<TradeSummaryKey> ENLIST_ORDER =
+            Comparator.comparingInt(TradeSummaryKey::getPartitionId).thenComparing(TradeSummaryKey::getSymbol);
+
+    /**
+     * Constructs a {@link TradeSummaryInterceptor}.
+     */
+    public TradeSummaryInterceptor() {
+    }
+
+    @Override
+    public void onEvent(EntryEvent<TradeId, Trade> event) {
+        Map<TradeSummaryKey, TradeSummary> mapDelta = new TreeMap<>(ENLIST_ORDER);
+        BackingMapManagerContext           context  = null;
+
+        // determine the change to each summary caused by the trades in this event
+        for (BinaryEntry<TradeId, Trade> entry : event.getEntrySet()) {
+            context = entry.getContext();
+
+            int   partition = context.getKeyPartition(entry.getBinaryKey());
+            Trade original  = entry.getOriginalValue();
+            Trade current   = event.getType() == EntryEvent.Type.REMOVING ? null : entry.getValue();
+
+            if (original != null) {
+                mapDelta.computeIfAbsent(new TradeSummaryKey(original.getSymbol(), partition), k -> new TradeSummary())
+                        .remove(original.getQuantity(), original.getPurchaseValue());
+            }
+
+            if (current != null) {
+                mapDelta.computeIfAbsent(new TradeSummaryKey(current.getSymbol(), partition), k -> new TradeSummary())
+                        .add(current.getQuantity(), current.getPurchaseValue());
+            }
+        }
+
+        if (mapDelta.isEmpty()) {
+            return;
+        }
+
+        BackingMapContext summaryContext = context.getBackingMapContext(Utilities.TRADE_SUMMARY_CACHE);
+
+        if (summaryContext == null) {
+            throw new IllegalStateException("The " + Utilities.TRADE_SUMMARY_CACHE + " cache has not been created");
+        }
+
+        // apply the changes to the summaries in the same partition(s) as the trades
+        for (Map.Entry<TradeSummaryKey, TradeSummary> delta : mapDelta.entrySet()) {
+            Object binaryKey = context.getKeyToInternalConverter().convert(delta.getKey());
+
+            @SuppressWarnings("unchecked")
+            InvocableMap.Entry<TradeSummaryKey, TradeSummary> summaryEntry =
+                    summaryContext.getBackingMapEntry(binaryKey);
+
+            TradeSummary summary = summaryEntry.isPresent() ? summaryEntry.getValue() : new TradeSummary();
+
+            summary.combine(delta.getValue());
+
+            if (summary.getCount() > 0) {
+                summaryEntry.setValue(summary);
+            }
+            else if (summaryEntry.isPresent()) {
+                summaryEntry.remove(false);
+            }
+        }
+    }
+}
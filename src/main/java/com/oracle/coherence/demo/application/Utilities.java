@@ -1,7 +1,7 @@
 /*
  * File: Utilities.java
  *
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -19,18 +19,32 @@
 package com.oracle.coherence.demo.application;
 
 import com.oracle.coherence.common.base.Logger;
+import com.oracle.coherence.demo.model.MemberInfo;
 import com.oracle.coherence.demo.model.Price;
+import com.oracle.coherence.demo.model.SymbolDictionary;
 import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+import com.oracle.coherence.demo.model.TradeIdMigrator;
+import com.oracle.coherence.demo.model.TradeSplitter;
+import com.oracle.coherence.demo.model.TradeSummary;
+import com.oracle.coherence.demo.model.TradeSummaryKey;
 
+import com.tangosol.net.AsyncNamedCache;
 import com.tangosol.net.CacheFactory;
 import com.tangosol.net.Coherence;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
 
 import com.tangosol.net.Session;
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+import com.tangosol.net.partition.PartitionSet;
+import com.tangosol.util.Filter;
 import com.tangosol.util.Filters;
 import com.tangosol.util.InvocableMap;
 
 import com.tangosol.util.Processors;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.filter.PartitionedFilter;
 import io.opentracing.Scope;
 import io.opentracing.Span;
 import io.opentracing.Tracer;
@@ -39,12 +53,18 @@ import io.opentracing.tag.Tags;
 
 import io.opentracing.util.GlobalTracer;
 
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 
+import java.util.function.IntConsumer;
+
 /**
  * Utility functions for the Coherence Demo.
  *
@@ -54,7 +74,7 @@ public final class Utilities {
     /**
      * The number of positions to create.
      */
-    private static final int NR_POSITIONS_TO_CREATE = 100000;
+    static final int NR_POSITIONS_TO_CREATE = 100000;
 
     /**
      * The minimum factor for price calculations.
@@ -79,7 +99,7 @@ public final class Utilities {
     /**
      * Stock symbols.
      */
-    private static final String[] SYMBOLS = {"ORCL", "MSFT", "GOOG", "AAPL", "NFLX", "DELL"};
+    private static final String[] SYMBOLS = SymbolDictionary.getSymbols().toArray(new String[0]);
 
     /**
      * The path to the VisualVM executable, for JDK9+.
@@ -93,17 +113,48 @@ public final class Utilities {
     public static final String TRADE_CACHE = "Trade";
 
 
+    /**
+     * The system property to select the caching scheme for the trades cache, which is
+     * either {@code elastic-data-scheme} or the default scheme.
+     */
+    public static final String STORAGE_SCHEME_PROPERTY = "trade.storage.scheme";
+
+
+    /**
+     * The system property to set the maximum size of the RAM journal used by the
+     * {@code elastic-data-scheme}.
+     */
+    public static final String RAM_JOURNAL_SIZE_PROPERTY = "ramjournal.size";
+
+
     /**
      * The name of the prices cache.
      */
     public static final String PRICE_CACHE = "Price";
 
 
+    /**
+     * The name of the partition-local trade summaries cache.
+     */
+    public static final String TRADE_SUMMARY_CACHE = "TradeSummary";
+
+
+    /**
+     * The name of the replicated member information cache.
+     */
+    public static final String MEMBER_INFO_CACHE = "member-info";
+
+
     /**
      * The name of the federation status cache.
      */
     public static final String FEDERATION_STATUS = "federation-status";
 
+    /**
+     * System property to set the number of partitions split in each wave of a stock split.
+     */
+    public static final String SPLIT_WAVE_PARTITIONS_PROPERTY = "split.wave.partitions";
+
     /**
      * Session to use.
      */
@@ -158,7 +209,7 @@ public final class Utilities {
      *
      * @return the trade {@link NamedCache}
      */
-    public static NamedCache<String, Trade> getTradesCache() {
+    public static NamedCache<TradeId, Trade> getTradesCache() {
         return getSession().getCache(TRADE_CACHE);
     }
 
@@ -173,6 +224,26 @@ public final class Utilities {
     }
 
 
+    /**
+     * Obtain the partition-local trade summaries cache.
+     *
+     * @return the trade summary {@link NamedCache}
+     */
+    public static NamedCache<TradeSummaryKey, TradeSummary> getTradeSummaryCache() {
+        return getSession().getCache(TRADE_SUMMARY_CACHE);
+    }
+
+
+    /**
+     * Obtain the replicated member information cache, keyed by member id.
+     *
+     * @return the member information {@link NamedCache}
+     */
+    public static NamedCache<Integer, MemberInfo> getMemberInfoCache() {
+        return getSession().getCache(MEMBER_INFO_CACHE);
+    }
+
+
     /**
      * Obtain the federation-status cache.
      *
@@ -267,7 +338,7 @@ public final class Utilities {
      * Add indexes to the caches to improve query performance.
      */
     public static void addIndexes() {
-        NamedCache<String, Trade> tradesCache = getTradesCache();
+        NamedCache<TradeId, Trade> tradesCache = getTradesCache();
         Tracer tracer = GlobalTracer.get();
         Span span = tracer.buildSpan("Utilities.AddIndexes")
                 .withTag(Tags.COMPONENT, "demo")
@@ -292,7 +363,7 @@ public final class Utilities {
      * Remove indexes to the caches.
      */
     public static void removeIndexes() {
-        NamedCache<String, Trade> tradesCache = getTradesCache();
+        NamedCache<TradeId, Trade> tradesCache = getTradesCache();
         Tracer tracer = GlobalTracer.get();
         Span span = tracer.buildSpan("Utilities.RemoveIndexes")
                 .withTag(Tags.COMPONENT, "demo")
@@ -349,44 +420,215 @@ public final class Utilities {
      *
      * This method performs the following operations:
      * 1. Retrieves the current price of the specified stock symbol.
-     * 2. Splits the stock by the given factor, updating the quantity of all trades associated with the symbol.
+     * 2. Splits the stock by the given factor, updating the quantity of all trades associated with the symbol,
+     *    in waves of partitions.
      * 3. Updates the stock price by dividing the original price by the split factor.
      *
      * @param symbol the stock symbol to be split
      * @param factor the split factor (e.g., 2 for a 2:1 split)
      */
     public static void splitStock(String symbol, int factor) {
-        NamedCache<String, Trade> tradesCache = getTradesCache();
-        NamedCache<String, Price> priceCache = getPricesCache();
+        splitStockAsync(symbol, factor).join();
+    }
+
+    /**
+     * Asynchronously issues a stock split for the specified symbol by a given factor.
+     *
+     * @param symbol the stock symbol to be split
+     * @param factor the split factor (e.g., 2 for a 2:1 split)
+     *
+     * @return a future that completes when the trades and price have been updated
+     *
+     * @see #splitStock(String, int)
+     */
+    public static CompletableFuture<Void> splitStockAsync(String symbol, int factor) {
+        return splitStockAsync(symbol, factor, count -> { });
+    }
+
+    /**
+     * Asynchronously issues a stock split for the specified symbol by a given factor,
+     * reporting the number of trades split by each wave.
+     * <p>
+     * The partitions that own the trades for the symbol are split in waves of the number
+     * of partitions set by {@value #SPLIT_WAVE_PARTITIONS_PROPERTY} (4 by default), one wave
+     * after the other, so the memory used and the time each partition is locked
+     * for is bounded however many trades there are. The partitions within each wave
+     * are split in parallel by the members that own them, using a {@link TradeSplitter}.
+     * <p>
+     * The progress consumer is called on a Coherence service thread, so must not block.
+     *
+     * @param symbol    the stock symbol to be split
+     * @param factor    the split factor (e.g., 2 for a 2:1 split)
+     * @param progress  the consumer of the number of trades split by each wave
+     *
+     * @return a future that completes when the trades and price have been updated, or
+     *         completes exceptionally with an {@link IllegalArgumentException} if there
+     *         is no price for the symbol
+     */
+    public static CompletableFuture<Void> splitStockAsync(String symbol, int factor, IntConsumer progress) {
+        AsyncNamedCache<TradeId, Trade> tradesCache = getTradesCache().async();
+        AsyncNamedCache<String, Price>  priceCache  = getPricesCache().async();
+        List<Filter<Trade>>             listWaves   = getSymbolWaves(symbol,
+                                                          Integer.getInteger(SPLIT_WAVE_PARTITIONS_PROPERTY, 4));
+        TradeSplitter                   splitter    = new TradeSplitter(factor);
+
+        return priceCache.get(symbol).thenCompose(price -> {
+            if (price == null) {
+                return CompletableFuture.failedFuture(
+                        new IllegalArgumentException("There is no price for the symbol " + symbol));
+            }
 
-        double originalPrice = priceCache.get(symbol).getPrice();
+            double originalPrice = price.getPrice();
 
-        Logger.out(String.format("Splitting stock for %s using %d:1", symbol, factor));
+            Logger.out(String.format("Splitting stock for %s using %d:1 in %d waves", symbol, factor, listWaves.size()));
 
-        // split the stock
-        tradesCache.invokeAll(Filters.equal(Trade::getSymbol, symbol), entry -> {
-            Trade trade = entry.getValue();
-            trade.split(factor);
-            entry.setValue(trade);
-            return null;
-        });
+            // split the stock, one wave at a time
+            CompletableFuture<Long> future = CompletableFuture.completedFuture(0L);
+
+            for (Filter<Trade> wave : listWaves) {
+                future = future.thenCompose(total -> tradesCache.invokeAll(wave, splitter).thenApply(mapResults -> {
+                    int count = mapResults.values().stream().mapToInt(Integer::intValue).sum();
+
+                    progress.accept(count);
 
-        Logger.out(String.format("Updating stock price for %s from $%,.2f to $%,.2f", symbol, originalPrice, originalPrice / factor));
-        priceCache.invoke(symbol, Processors.update(Price::setPrice, originalPrice / factor));
+                    return total + count;
+                }));
+            }
+
+            return future.thenCompose(total -> {
+                Logger.out(String.format("Split %,d trades for %s", total, symbol));
+                Logger.out(String.format("Updating stock price for %s from $%,.2f to $%,.2f", symbol, originalPrice, originalPrice / factor));
+                return priceCache.invoke(symbol, Processors.update(Price::setPrice, originalPrice / factor));
+            });
+        }).thenAccept(ignored -> { });
+    }
+
+
+    /**
+     * Replace the identifiers of the trades that are not serialized as 128-bit values,
+     * such as those created by earlier versions, with new {@link java.util.UUID}s.
+     * <p>
+     * The trades are moved within the partitions that own them by a {@link TradeIdMigrator},
+     * and the cache store replaces the rows for the old identifiers.
+     *
+     * @return the number of trades that were migrated
+     */
+    public static int migrateTradeIds() {
+        return migrateTradeIdsAsync().join();
+    }
+
+    /**
+     * Asynchronously replace the identifiers of the trades that are not serialized as
+     * 128-bit values with new {@link java.util.UUID}s.
+     *
+     * @return a future for the number of trades that were migrated
+     *
+     * @see #migrateTradeIds()
+     */
+    public static CompletableFuture<Integer> migrateTradeIdsAsync() {
+        AsyncNamedCache<TradeId, Trade> tradesCache = getTradesCache().async();
+
+        Logger.out("Migrating trade identifiers...");
+
+        return tradesCache.invokeAll(Filters.isFalse(ValueExtractor.of(TradeId::isCompact).fromKey()),
+                                     new TradeIdMigrator())
+                .thenApply(mapResults -> {
+                    int count = mapResults.size();
+
+                    Logger.out(String.format("Migrated %,d trade identifiers", count));
+
+                    return count;
+                });
+    }
+
+
+    /**
+     * Obtain a {@link Filter} for the trades for a symbol, which only targets the
+     * partitions that the trades for the symbol are associated with.
+     *
+     * @param symbol the stock symbol
+     *
+     * @return a {@link Filter} for the trades for the symbol
+     */
+    public static Filter<Trade> getSymbolFilter(String symbol) {
+        return new PartitionedFilter<>(Filters.equal(Trade::getSymbol, symbol), getSymbolPartitions(symbol));
+    }
+
+    /**
+     * Obtain {@link Filter}s for the trades for a symbol, each of which targets a
+     * separate wave of the partitions that the trades for the symbol are associated with.
+     *
+     * @param symbol      the stock symbol
+     * @param partitions  the maximum number of partitions in each wave
+     *
+     * @return a {@link Filter} for the trades for the symbol in each wave
+     */
+    public static List<Filter<Trade>> getSymbolWaves(String symbol, int partitions) {
+        PartitionSet        parts     = getSymbolPartitions(symbol);
+        List<Filter<Trade>> listWaves = new ArrayList<>();
+        Filter<Trade>       filter    = Filters.equal(Trade::getSymbol, symbol);
+        PartitionSet        wave      = null;
+
+        for (int nPart = parts.next(0); nPart >= 0; nPart = parts.next(nPart + 1)) {
+            if (wave == null || wave.cardinality() >= partitions) {
+                wave = new PartitionSet(parts.getPartitionCount());
+                listWaves.add(new PartitionedFilter<>(filter, wave));
+            }
+
+            wave.add(nPart);
+        }
+
+        return listWaves;
+    }
+
+    /**
+     * Obtain the partitions that the trades for a symbol are associated with.
+     *
+     * @param symbol the stock symbol
+     *
+     * @return the partitions for the symbol
+     */
+    private static PartitionSet getSymbolPartitions(String symbol) {
+        PartitionedService      service  = (PartitionedService) getTradesCache().getCacheService();
+        KeyPartitioningStrategy strategy = service.getKeyPartitioningStrategy();
+        PartitionSet            parts    = new PartitionSet(service.getPartitionCount());
+
+        for (String associatedKey : TradeId.getAssociatedKeys(symbol)) {
+            parts.add(strategy.getKeyPartition(associatedKey));
+        }
+
+        return parts;
     }
 
 
     /**
      * Create "count" positions in the cache at the current price.
+     * <p>
+     * The positions are created and loaded in parallel by a {@link TradeLoader}, which
+     * is configured using the {@value TradeLoader#BATCH_SIZE_PROPERTY},
+     * {@value TradeLoader#PARALLELISM_PROPERTY} and {@value TradeLoader#MAX_IN_FLIGHT_PROPERTY}
+     * system properties.
      *
      * @param symbolToInsert the symbol to add to, if null, then all symbols
      * @param count          the number of entries to add
      */
     public static void createPositions(String symbolToInsert, int count) {
+        createPositions(symbolToInsert, count, new TradeLoader(getTradesCache()));
+    }
+
+
+    /**
+     * Create "count" positions in the cache at the current price, using the specified
+     * {@link TradeLoader}, which may be used to monitor, throttle or cancel the load.
+     *
+     * @param symbolToInsert the symbol to add to, if null, then all symbols
+     * @param count          the number of entries to add
+     * @param loader         the {@link TradeLoader} for the trades cache
+     */
+    public static void createPositions(String symbolToInsert, int count, TradeLoader loader) {
         Logger.out(String.format("Creating %d Positions...", count));
 
-        NamedCache<String, Trade> tradesCache = getTradesCache();
-        NamedCache<String, Price> priceCache = getPricesCache();
+        NamedCache<TradeId, Trade> tradesCache = getTradesCache();
         Tracer tracer = GlobalTracer.get();
         Span span = tracer.buildSpan("Utilities.CreatePositions")
                 .withTag(Tags.COMPONENT, "demo")
@@ -396,33 +638,16 @@ public final class Utilities {
         boolean singleSymbol = symbolToInsert != null;
 
         try (Scope ignored = tracer.activateSpan(span)) {
-            Map<String, Price> localPrices = new HashMap<>(priceCache.getAll(priceCache.keySet()));
-            HashMap<String, Trade> trades = new HashMap<>();
-            Random random = ThreadLocalRandom.current();
-
-            for (int i = 0; i < count; i++) {
-                // create a random position
-                String symbol = singleSymbol ? symbolToInsert : SYMBOLS[random.nextInt(SYMBOLS.length)];
-                int amount = random.nextInt(1000) + 1;
-                double price = localPrices.get(symbol).getPrice();
-
-                Trade trade = new Trade(symbol, amount, price);
-
-                trades.put(trade.getId(), trade);
-
-                // batch the putAll's at 100,000
-                if (i % 100_000 == 0) {
-                    spanLog(span, "Flushed trades to cache" + (singleSymbol ? " for symbol " + symbolToInsert : ""));
-                    Logger.out("Flushing trades from HashMap to Coherence cache...");
-                    tradesCache.putAll(trades);
-                    trades.clear();
-                }
-            }
+            String[] symbols = singleSymbol ? new String[] {symbolToInsert} : SYMBOLS;
+            Map<String, Double> localPrices = new HashMap<>();
 
-            // insert any remaining trades not previously flushed
-            if (!trades.isEmpty()) {
-                tradesCache.putAll(trades);
-            }
+            PriceView.getInstance().getAll(Set.of(symbols))
+                     .forEach((symbol, price) -> localPrices.put(symbol, price.getPrice()));
+
+            double rate = loader.load(symbols, localPrices, count);
+
+            spanLog(span, String.format("Loaded trades at %,.0f per second", rate)
+                          + (singleSymbol ? " for symbol " + symbolToInsert : ""));
         } finally {
             span.finish();
         }
@@ -435,7 +660,17 @@ public final class Utilities {
      * Update a single random stock symbol price on each call.
      */
     public static void updatePrices() {
-        NamedCache<String, Price> priceCache = getPricesCache();
+        updatePricesAsync().join();
+    }
+
+
+    /**
+     * Asynchronously update a single random stock symbol price.
+     *
+     * @return a future that completes when the price has been updated
+     */
+    public static CompletableFuture<Void> updatePricesAsync() {
+        AsyncNamedCache<String, Price> priceCache = getPricesCache().async();
         Random random = ThreadLocalRandom.current();
 
         // choose random symbol to modify
@@ -448,9 +683,8 @@ public final class Utilities {
 
         try (Scope ignored = tracer.activateSpan(span)) {
             // invoke using static method to ensure all arguments are captured
-            priceCache.invoke(symbol, updateStockPrice(random.nextFloat()));
-        } finally {
-            span.finish();
+            return priceCache.invoke(symbol, updateStockPrice(random.nextFloat()))
+                    .whenComplete((result, throwable) -> span.finish());
         }
     }
 
@@ -0,0 +1,214 @@
+/*
+ * File: CacheStoreStatistics.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.Cluster;
+
+import com.tangosol.net.management.Registry;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The flush latency statistics for a cache store, which are registered with the
+ * Coherence management framework as {@code type=CacheStore,name=<entity name>}.
+ * <p>
+ * A write-behind flush of many entries is a single store or erase operation, so
+ * the average and maximum times are the flush latencies.
+ */
+public class CacheStoreStatistics
+        implements CacheStoreStatisticsMBean {
+
+    /**
+     * The method used to write entries to the database.
+     */
+    private final String writeMode;
+
+    /**
+     * The statistics for store operations.
+     */
+    private final Operation store = new Operation();
+
+    /**
+     * The statistics for erase operations.
+     */
+    private final Operation erase = new Operation();
+
+    /**
+     * Construct a {@link CacheStoreStatistics}.
+     *
+     * @param writeMode  the method used to write entries to the database
+     */
+    public CacheStoreStatistics(String writeMode) {
+        this.writeMode = writeMode;
+    }
+
+    /**
+     * Register the statistics with the Coherence management framework, if this member
+     * has joined a cluster and management is enabled.
+     *
+     * @param name  the name of the cache store
+     */
+    public void register(String name) {
+        Cluster  cluster  = CacheFactory.getCluster();
+        Registry registry = cluster.isRunning() ? cluster.getManagement() : null;
+
+        if (registry != null) {
+            registry.register(registry.ensureGlobalName("type=CacheStore,name=" + name), this);
+        }
+    }
+
+    /**
+     * Record a store operation.
+     *
+     * @param entries  the number of entries stored
+     * @param nanos    the time taken in nanoseconds
+     */
+    public void recordStore(int entries, long nanos) {
+        store.record(entries, nanos);
+    }
+
+    /**
+     * Record an erase operation.
+     *
+     * @param entries  the number of entries erased
+     * @param nanos    the time taken in nanoseconds
+     */
+    public void recordErase(int entries, long nanos) {
+        erase.record(entries, nanos);
+    }
+
+    @Override
+    public String getWriteMode() {
+        return writeMode;
+    }
+
+    @Override
+    public long getStoreCount() {
+        return store.count.sum();
+    }
+
+    @Override
+    public long getStoreEntries() {
+        return store.entries.sum();
+    }
+
+    @Override
+    public double getStoreAverageMillis() {
+        return store.getAverageMillis();
+    }
+
+    @Override
+    public double getStoreMaxMillis() {
+        return store.max.get() / 1_000_000.0;
+    }
+
+    @Override
+    public long getEraseCount() {
+        return erase.count.sum();
+    }
+
+    @Override
+    public long getEraseEntries() {
+        return erase.entries.sum();
+    }
+
+    @Override
+    public double getEraseAverageMillis() {
+        return erase.getAverageMillis();
+    }
+
+    @Override
+    public double getEraseMaxMillis() {
+        return erase.max.get() / 1_000_000.0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        store.reset();
+        erase.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStoreStatistics{writeMode=%s, store=%d/%d avg=%.2fms max=%.2fms, "
+                             + "erase=%d/%d avg=%.2fms max=%.2fms}",
+                             writeMode, getStoreCount(), getStoreEntries(), getStoreAverageMillis(), getStoreMaxMillis(),
+                             getEraseCount(), getEraseEntries(), getEraseAverageMillis(), getEraseMaxMillis());
+    }
+
+    /**
+     * The statistics for a type of operation.
+     */
+    private static class Operation {
+        /**
+         * The number of operations.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * The number of entries.
+         */
+        private final LongAdder entries = new LongAdder();
+
+        /**
+         * The total time in nanoseconds.
+         */
+        private final LongAdder totalNanos = new LongAdder();
+
+        /**
+         * The maximum time in nanoseconds.
+         */
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        /**
+         * Record an operation.
+         *
+         * @param entryCount  the number of entries
+         * @param nanos       the time taken in nanoseconds
+         */
+        void record(int entryCount, long nanos) {
+            count.increment();
+            entries.add(entryCount);
+            totalNanos.add(nanos);
+            max.accumulate(nanos);
+        }
+
+        /**
+         * Obtain the average time in milliseconds.
+         *
+         * @return the average time
+         */
+        double getAverageMillis() {
+            long operations = count.sum();
+            return operations == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / operations;
+        }
+
+        /**
+         * Reset the statistics.
+         */
+        void reset() {
+            count.reset();
+            entries.reset();
+            totalNanos.reset();
+            max.reset();
+        }
+    }
+}
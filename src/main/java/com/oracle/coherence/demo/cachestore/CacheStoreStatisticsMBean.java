@@ -0,0 +1,93 @@
+/*
+ * File: CacheStoreStatisticsMBean.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+/**
+ * The management interface for {@link CacheStoreStatistics}.
+ */
+public interface CacheStoreStatisticsMBean {
+
+    /**
+     * Obtain the method used to write entries to the database.
+     *
+     * @return the write method
+     */
+    String getWriteMode();
+
+    /**
+     * Obtain the number of store operations.
+     *
+     * @return the number of store operations
+     */
+    long getStoreCount();
+
+    /**
+     * Obtain the number of entries stored.
+     *
+     * @return the number of entries stored
+     */
+    long getStoreEntries();
+
+    /**
+     * Obtain the average time in milliseconds of a store operation.
+     *
+     * @return the average store time
+     */
+    double getStoreAverageMillis();
+
+    /**
+     * Obtain the maximum time in milliseconds of a store operation.
+     *
+     * @return the maximum store time
+     */
+    double getStoreMaxMillis();
+
+    /**
+     * Obtain the number of erase operations.
+     *
+     * @return the number of erase operations
+     */
+    long getEraseCount();
+
+    /**
+     * Obtain the number of entries erased.
+     *
+     * @return the number of entries erased
+     */
+    long getEraseEntries();
+
+    /**
+     * Obtain the average time in milliseconds of an erase operation.
+     *
+     * @return the average erase time
+     */
+    double getEraseAverageMillis();
+
+    /**
+     * Obtain the maximum time in milliseconds of an erase operation.
+     *
+     * @return the maximum erase time
+     */
+    double getEraseMaxMillis();
+
+    /**
+     * Reset the statistics.
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,521 @@
+/*
+ * File: CoalescingCacheStore.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.net.BackingMapManagerContext;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.Cluster;
+
+import com.tangosol.net.cache.CacheStore;
+
+import com.tangosol.net.management.Registry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache store in front of a {@link JpaCacheStore}, which writes the changes flushed
+ * by the write-behind queue of the read-write backing map in batches sized from the
+ * measured database latency, so the database write volume follows the number of
+ * distinct keys changed rather than the rate of changes.
+ * <p>
+ * The write-behind queue remains the only record of the changes waiting to be written,
+ * so they are backed up and survive the failure of a member or the transfer of a
+ * partition. The queue keeps only the latest change to each key, so the changes are
+ * coalesced over the {@code write-delay}, set using {@value #WRITE_DELAY_PROPERTY}.
+ * The {@code write-batch-factor}, set using {@value #WRITE_BATCH_FACTOR_PROPERTY}, adds
+ * the changes that are nearly due to each flush, and failed writes are queued again
+ * while the queue is below the {@code write-requeue-threshold}, set using
+ * {@value #WRITE_REQUEUE_THRESHOLD_PROPERTY}.
+ * <p>
+ * Each flush is split into batches sized so each batch takes about
+ * {@value #TARGET_LATENCY_PROPERTY} milliseconds, unless more changes are waiting to be
+ * written than would be drained in {@value #DRAIN_BATCHES_PROPERTY} batches of that size,
+ * in which case the batches are made larger to catch up. The entries of each batch that
+ * is written are removed from the flushed map, so if a later batch fails, only the entries
+ * that were not written are queued again.
+ * <p>
+ * The {@link CoalescingInterceptor} tells the cache store about each change made to the
+ * cache, so it knows the number of changes waiting to be written, how long they have
+ * waited, and the ratio of changes made to entries written. The statistics are registered
+ * with the Coherence management framework as {@code type=CoalescingCacheStore,name=<entity name>}.
+ */
+@SuppressWarnings( {"unchecked", "rawtypes"})
+public class CoalescingCacheStore
+        implements CacheStore, CoalescingCacheStoreMBean {
+    /**
+     * System property to set the {@code write-delay} of the read-write backing map in the cache configuration.
+     */
+    public static final String WRITE_DELAY_PROPERTY = "cachestore.write.delay";
+
+    /**
+     * System property to set the {@code write-batch-factor} of the read-write backing map in the cache configuration.
+     */
+    public static final String WRITE_BATCH_FACTOR_PROPERTY = "cachestore.write.batch.factor";
+
+    /**
+     * System property to set the {@code write-requeue-threshold} of the read-write backing map in the cache
+     * configuration.
+     */
+    public static final String WRITE_REQUEUE_THRESHOLD_PROPERTY = "cachestore.write.requeue.threshold";
+
+    /**
+     * System property to set the target time in milliseconds of each batch.
+     */
+    public static final String TARGET_LATENCY_PROPERTY = "cachestore.coalesce.target.latency";
+
+    /**
+     * System property to set the minimum number of entries in a batch.
+     */
+    public static final String MIN_BATCH_PROPERTY = "cachestore.coalesce.min.batch";
+
+    /**
+     * System property to set the maximum number of entries in a batch.
+     */
+    public static final String MAX_BATCH_PROPERTY = "cachestore.coalesce.max.batch";
+
+    /**
+     * System property to set the number of batches that the changes waiting to be written should be drained in.
+     */
+    public static final String DRAIN_BATCHES_PROPERTY = "cachestore.coalesce.drain.batches";
+
+    /**
+     * The {@link CoalescingCacheStore} for each cache on this member, keyed by the cache name.
+     */
+    private static final Map<String, CoalescingCacheStore> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * The cache store that writes to the database.
+     */
+    protected final JpaCacheStore delegate;
+
+    /**
+     * The target time in nanoseconds of each batch.
+     */
+    private final long targetNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong(TARGET_LATENCY_PROPERTY, 200L));
+
+    /**
+     * The minimum number of entries in a batch.
+     */
+    private final int minBatch = Integer.getInteger(MIN_BATCH_PROPERTY, 100);
+
+    /**
+     * The maximum number of entries in a batch.
+     */
+    private final int maxBatch = Integer.getInteger(MAX_BATCH_PROPERTY, 5000);
+
+    /**
+     * The number of batches that the changes waiting to be written should be drained in.
+     */
+    private final int drainBatches = Math.max(1, Integer.getInteger(DRAIN_BATCHES_PROPERTY, 10));
+
+    /**
+     * The time in milliseconds of the first change to each key, in its internal form,
+     * that is waiting to be written.
+     */
+    private final Map<Object, Long> changes = new ConcurrentHashMap<>();
+
+    /**
+     * The number of changes made to the cache.
+     */
+    private final LongAdder updates = new LongAdder();
+
+    /**
+     * The number of entries stored in the database.
+     */
+    private final LongAdder stored = new LongAdder();
+
+    /**
+     * The number of entries erased from the database.
+     */
+    private final LongAdder erased = new LongAdder();
+
+    /**
+     * The number of entries that failed to be written, and were returned to the write-behind queue.
+     */
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * The number of batches written.
+     */
+    private final LongAdder batches = new LongAdder();
+
+    /**
+     * The number of entries in the last flush.
+     */
+    private volatile int lastFlushSize;
+
+    /**
+     * The time in nanoseconds taken by the last flush.
+     */
+    private volatile long lastFlushNanos;
+
+    /**
+     * The age in milliseconds of the oldest change in the last flush.
+     */
+    private volatile long lastFlushLag;
+
+    /**
+     * The maximum age in milliseconds of the oldest change in a flush.
+     */
+    private volatile long maxFlushLag;
+
+    /**
+     * The context of the cache, set by the first change, to convert keys to their internal form.
+     */
+    private volatile BackingMapManagerContext context;
+
+    /**
+     * The moving average of the database latency in nanoseconds per entry, or zero
+     * before the first batch.
+     */
+    private volatile double entryNanos;
+
+    /**
+     * The number of entries in a batch that is written in the target time.
+     */
+    private volatile int latencyBatchSize;
+
+    /**
+     * The number of entries in the batches of the last flush.
+     */
+    private volatile int batchSize;
+
+    /**
+     * Construct a {@link CoalescingCacheStore} in front of a {@link JpaCacheStore}.
+     *
+     * @param entityName       entity name
+     * @param entityClassName  entity class
+     * @param unitName         unit name
+     */
+    @SuppressWarnings("unused")
+    public CoalescingCacheStore(String entityName, String entityClassName, String unitName) {
+        this(new JpaCacheStore(entityName, entityClassName, unitName));
+        register(entityName);
+
+        // the entity name is the cache name
+        INSTANCES.put(entityName, this);
+    }
+
+    /**
+     * Construct a {@link CoalescingCacheStore} in front of a {@link JpaCacheStore}.
+     *
+     * @param delegate  the cache store that writes to the database
+     */
+    public CoalescingCacheStore(JpaCacheStore delegate) {
+        this.delegate = delegate;
+        this.latencyBatchSize = minBatch;
+        this.batchSize = minBatch;
+    }
+
+    /**
+     * Obtain the {@link CoalescingCacheStore} for a cache on this member.
+     *
+     * @param cacheName  the name of the cache
+     *
+     * @return the cache store, or {@code null} if the cache doesn't use a {@link CoalescingCacheStore}
+     */
+    public static CoalescingCacheStore getInstance(String cacheName) {
+        return INSTANCES.get(cacheName);
+    }
+
+    @Override
+    public Object load(Object key) {
+        // the read-write backing map never loads a key with a change in its write-behind queue
+        return delegate.load(key);
+    }
+
+    @Override
+    public Map loadAll(Collection keys) {
+        return delegate.loadAll(keys);
+    }
+
+    @Override
+    public void store(Object key, Object value) {
+        Map map = new HashMap(1);
+
+        map.put(key, value);
+        storeAll(map);
+    }
+
+    @Override
+    public void storeAll(Map map) {
+        long start = System.nanoTime();
+        int  size  = map.size();
+
+        // changes to keys that moved to another member are written there
+        BackingMapManagerContext ctx = context;
+        if (ctx != null) {
+            changes.keySet().removeIf(binaryKey -> !ctx.isKeyOwned(binaryKey));
+        }
+
+        // use larger batches when there are too many changes waiting to drain them in batches of the latency size
+        int depth = Math.max(size, changes.size());
+        int limit = (int) Math.max(minBatch, Math.min(maxBatch, Math.max(latencyBatchSize,
+                                                                           (depth + drainBatches - 1) / drainBatches)));
+
+        batchSize = limit;
+
+        // split the flush into batches before writing any, as the written entries are removed from the map,
+        // taking the time of the first change to each key, so a change made while writing is timed afresh
+        List<Map>               listBatches = new ArrayList<>();
+        List<Map<Object, Long>> listChanges = new ArrayList<>();
+        Map                     mapBatch    = null;
+        long                    oldest      = Long.MAX_VALUE;
+
+        for (Map.Entry entry : (Iterable<Map.Entry>) map.entrySet()) {
+            if (mapBatch == null || mapBatch.size() >= limit) {
+                mapBatch = new HashMap(Math.min(limit, size));
+                listBatches.add(mapBatch);
+                listChanges.add(new HashMap<>());
+            }
+            mapBatch.put(entry.getKey(), entry.getValue());
+
+            if (ctx != null) {
+                Object binaryKey = ctx.getKeyToInternalConverter().convert(entry.getKey());
+                Long   changed   = changes.remove(binaryKey);
+
+                if (changed != null) {
+                    listChanges.get(listChanges.size() - 1).put(binaryKey, changed);
+                    oldest = Math.min(oldest, changed);
+                }
+            }
+        }
+
+        if (oldest != Long.MAX_VALUE) {
+            long lag = System.currentTimeMillis() - oldest;
+
+            lastFlushLag = lag;
+            maxFlushLag = Math.max(maxFlushLag, lag);
+        }
+
+        for (int i = 0; i < listBatches.size(); i++) {
+            Map  batch      = listBatches.get(i);
+            long batchStart = System.nanoTime();
+
+            try {
+                delegate.storeAll(batch);
+            }
+            catch (RuntimeException e) {
+                // the entries remaining in the map are queued again by the read-write backing map
+                for (Map<Object, Long> mapChanges : listChanges.subList(i, listChanges.size())) {
+                    mapChanges.forEach(changes::putIfAbsent);
+                }
+
+                failed.add(map.size());
+                Logger.err("Failed to write " + map.size() + " " + delegate.entityName + " changes", e);
+                throw e;
+            }
+
+            map.keySet().removeAll(batch.keySet());
+            stored.add(batch.size());
+            batches.increment();
+            resize(batch.size(), System.nanoTime() - batchStart);
+        }
+
+        lastFlushSize = size;
+        lastFlushNanos = System.nanoTime() - start;
+    }
+
+    @Override
+    public void erase(Object key) {
+        delegate.erase(key);
+        erased.increment();
+    }
+
+    @Override
+    public void eraseAll(Collection keys) {
+        int size = keys.size();
+
+        try {
+            delegate.eraseAll(keys);
+        }
+        catch (RuntimeException e) {
+            failed.add(size);
+            throw e;
+        }
+
+        keys.clear();
+        erased.add(size);
+    }
+
+    /**
+     * Record a change made to the cache, which is waiting to be written.
+     *
+     * @param binaryKey  the key, in its internal form
+     * @param context    the context of the cache
+     */
+    public void onChange(Object binaryKey, BackingMapManagerContext context) {
+        this.context = context;
+
+        updates.increment();
+        changes.putIfAbsent(binaryKey, System.currentTimeMillis());
+    }
+
+    /**
+     * Record the removal of an entry from the cache, which replaces any change that
+     * was waiting to be written.
+     *
+     * @param binaryKey  the key, in its internal form
+     */
+    public void onErase(Object binaryKey) {
+        changes.remove(binaryKey);
+    }
+
+    @Override
+    public long getUpdateCount() {
+        return updates.sum();
+    }
+
+    @Override
+    public long getStoredCount() {
+        return stored.sum();
+    }
+
+    @Override
+    public long getErasedCount() {
+        return erased.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    @Override
+    public double getCoalescingRatio() {
+        long count = getStoredCount();
+
+        return count == 0 ? 0.0 : (double) getUpdateCount() / count;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return changes.size();
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public double getEntryLatencyMillis() {
+        return entryNanos / 1_000_000.0;
+    }
+
+    @Override
+    public int getLastFlushSize() {
+        return lastFlushSize;
+    }
+
+    @Override
+    public double getLastFlushMillis() {
+        return lastFlushNanos / 1_000_000.0;
+    }
+
+    @Override
+    public long getLastFlushLagMillis() {
+        return lastFlushLag;
+    }
+
+    @Override
+    public long getMaxFlushLagMillis() {
+        return maxFlushLag;
+    }
+
+    @Override
+    public void resetStatistics() {
+        updates.reset();
+        maxFlushLag = 0;
+        stored.reset();
+        erased.reset();
+        failed.reset();
+        batches.reset();
+    }
+
+    /**
+     * Obtain the cache store that writes to the database.
+     *
+     * @return the cache store
+     */
+    public JpaCacheStore getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CoalescingCacheStore{updates=%d, stored=%d, erased=%d, failed=%d, ratio=%.2f, "
+                             + "queueDepth=%d, batches=%d, batchSize=%d, lastFlushSize=%d, lastFlush=%.2fms, "
+                             + "lastFlushLag=%dms}",
+                             getUpdateCount(), getStoredCount(), getErasedCount(), getFailedCount(),
+                             getCoalescingRatio(), getQueueDepth(), getBatchCount(), getBatchSize(),
+                             getLastFlushSize(), getLastFlushMillis(), getLastFlushLagMillis());
+    }
+
+    /**
+     * Register the statistics with the Coherence management framework, if this member
+     * has joined a cluster and management is enabled.
+     *
+     * @param name  the name of the cache store
+     */
+    protected void register(String name) {
+        Cluster  cluster  = CacheFactory.getCluster();
+        Registry registry = cluster.isRunning() ? cluster.getManagement() : null;
+
+        if (registry != null) {
+            registry.register(registry.ensureGlobalName("type=CoalescingCacheStore,name=" + name), this);
+        }
+    }
+
+    /**
+     * Size the batches so that each is written in the target time, based on the
+     * average latency per entry.
+     *
+     * @param entries  the number of entries in the last batch
+     * @param nanos    the time in nanoseconds to write the last batch
+     */
+    private void resize(int entries, long nanos) {
+        if (entries == 0) {
+            return;
+        }
+
+        double latency = (double) nanos / entries;
+        double average = entryNanos == 0 ? latency : 0.8 * entryNanos + 0.2 * latency;
+        long   target  = Math.round(targetNanos / average);
+
+        entryNanos = average;
+        latencyBatchSize = (int) Math.max(minBatch, Math.min(maxBatch, target));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * File: CoalescingCacheStoreMBean.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+/**
+ * The management interface for {@link CoalescingCacheStore}.
+ */
+public interface CoalescingCacheStoreMBean {
+
+    /**
+     * Obtain the number of changes made to the cache.
+     *
+     * @return the number of changes
+     */
+    long getUpdateCount();
+
+    /**
+     * Obtain the number of entries stored in the database.
+     *
+     * @return the number of entries stored
+     */
+    long getStoredCount();
+
+    /**
+     * Obtain the number of entries erased from the database.
+     *
+     * @return the number of entries erased
+     */
+    long getErasedCount();
+
+    /**
+     * Obtain the number of entries that failed to be written, and were returned to
+     * the write-behind queue.
+     *
+     * @return the number of entries that failed
+     */
+    long getFailedCount();
+
+    /**
+     * Obtain the number of changes made to the cache for each entry stored in the database,
+     * which is the number of changes coalesced by the write-behind queue into each write.
+     *
+     * @return the coalescing ratio, or zero if no entries have been stored
+     */
+    double getCoalescingRatio();
+
+    /**
+     * Obtain the number of keys with a change waiting to be written.
+     *
+     * @return the queue depth
+     */
+    int getQueueDepth();
+
+    /**
+     * Obtain the number of batches written to the database.
+     *
+     * @return the number of batches written
+     */
+    long getBatchCount();
+
+    /**
+     * Obtain the number of entries in the batches of the last flush.
+     *
+     * @return the batch size
+     */
+    int getBatchSize();
+
+    /**
+     * Obtain the moving average of the database latency in milliseconds per entry.
+     *
+     * @return the latency per entry
+     */
+    double getEntryLatencyMillis();
+
+    /**
+     * Obtain the number of entries in the last flush of the write-behind queue.
+     *
+     * @return the size of the last flush
+     */
+    int getLastFlushSize();
+
+    /**
+     * Obtain the time in milliseconds taken to write the last flush of the write-behind queue.
+     *
+     * @return the time taken by the last flush
+     */
+    double getLastFlushMillis();
+
+    /**
+     * Obtain the age in milliseconds of the oldest change in the last flush of the write-behind queue.
+     *
+     * @return the lag of the last flush
+     */
+    long getLastFlushLagMillis();
+
+    /**
+     * Obtain the maximum age in milliseconds of the oldest change in a flush of the write-behind queue.
+     *
+     * @return the maximum lag of a flush
+     */
+    long getMaxFlushLagMillis();
+
+    /**
+     * Reset the statistics.
+     */
+    void resetStatistics();
+}
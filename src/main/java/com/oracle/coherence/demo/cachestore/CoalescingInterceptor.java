@@ -0,0 +1,68 @@
+/*
+ * File: CoalescingInterceptor.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+import com.tangosol.net.events.EventInterceptor;
+import com.tangosol.net.events.annotation.Interceptor;
+import com.tangosol.net.events.partition.cache.EntryEvent;
+
+import com.tangosol.util.BinaryEntry;
+
+/**
+ * An {@link EventInterceptor} that tells the {@link CoalescingCacheStore} of a cache
+ * about each change made to the cache, so it can measure how many changes are
+ * coalesced by the write-behind queue, and how long they wait to be written.
+ * <p>
+ * The interceptor does nothing for a cache that doesn't use a {@link CoalescingCacheStore},
+ * so it is configured for the cached entities whichever cache store is selected.
+ */
+@Interceptor(identifier = "CoalescingInterceptor",
+             entryEvents = {EntryEvent.Type.INSERTED, EntryEvent.Type.UPDATED, EntryEvent.Type.REMOVED})
+public class CoalescingInterceptor
+        implements EventInterceptor<EntryEvent<Object, Object>> {
+
+    /**
+     * Constructs a {@link CoalescingInterceptor}.
+     */
+    public CoalescingInterceptor() {
+    }
+
+    @Override
+    public void onEvent(EntryEvent<Object, Object> event) {
+        for (BinaryEntry<Object, Object> entry : event.getEntrySet()) {
+            CoalescingCacheStore store = CoalescingCacheStore.getInstance(entry.getBackingMapContext().getCacheName());
+
+            if (store == null) {
+                return;
+            }
+
+            // synthetic changes, such as loads and evictions, are not written to the database
+            if (entry.isSynthetic()) {
+                continue;
+            }
+
+            if (event.getType() == EntryEvent.Type.REMOVED) {
+                store.onErase(entry.getBinaryKey());
+            }
+            else {
+                store.onChange(entry.getBinaryKey(), entry.getContext());
+            }
+        }
+    }
+}
@@ -0,0 +1,574 @@
+/*
+ * File: JdbcCacheStore.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+import com.oracle.coherence.demo.model.Price;
+import com.oracle.coherence.demo.model.SymbolDictionary;
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+
+import com.tangosol.net.cache.BinaryEntryStore;
+
+import com.tangosol.util.Base;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.Extractors;
+import com.tangosol.util.ValueExtractor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.function.Function;
+
+/**
+ * A cache store for {@link Trade}s and {@link Price}s that uses plain JDBC, as a lower
+ * overhead alternative to the {@link JpaCacheStore}.
+ * <p>
+ * The column values are read directly from the POF encoded values of the entries,
+ * without deserializing them, and are written using batched prepared statements on
+ * connections from a {@link JdbcConnectionPool}. The tables are compatible with the
+ * tables created by the {@link JpaCacheStore}, and are created if they don't exist.
+ * <p>
+ * The constructor takes the same parameters as the {@link JpaCacheStore}, so the cache
+ * store is selected by the {@value #CLASS_PROPERTY} system property, and uses the JDBC
+ * URL of the persistence unit, unless the {@value #URL_PROPERTY} system property is set.
+ */
+@SuppressWarnings( {"unchecked", "rawtypes"})
+public class JdbcCacheStore
+        extends Base
+        implements BinaryEntryStore {
+    /**
+     * System property to select the cache store class in the cache configuration.
+     */
+    public static final String CLASS_PROPERTY = "cachestore.class";
+
+    /**
+     * System property to set the JDBC URL, instead of using the persistence unit.
+     */
+    public static final String URL_PROPERTY = "jdbc.url";
+
+    /**
+     * The table for each supported entity name.
+     */
+    protected static final Map<String, Table> TABLES = Map.of(
+            "Trade", new Table("TRADE",
+                               "CREATE TABLE TRADE (ID VARCHAR(255) NOT NULL, PRICE FLOAT, QUANTITY INTEGER, "
+                               + "SYMBOL VARCHAR(255), PRIMARY KEY (ID))",
+                               "ID",
+                               new String[] {"SYMBOL", "QUANTITY", "PRICE"},
+                               new ValueExtractor[] {SymbolDictionary.pofExtractor(Trade.POF_SYMBOL),
+                                                     Extractors.fromPof(Integer.class, Trade.POF_QUANTITY),
+                                                     Extractors.fromPof(Double.class, Trade.POF_PRICE)},
+                               key -> key instanceof TradeId tradeId ? tradeId.getId() : key,
+                               rs -> new Trade(rs.getString("ID"), rs.getString("SYMBOL"),
+                                               rs.getInt("QUANTITY"), rs.getDouble("PRICE"))),
+            "Price", new Table("PRICE",
+                               "CREATE TABLE PRICE (SYMBOL VARCHAR(255) NOT NULL, PRICE FLOAT, PRIMARY KEY (SYMBOL))",
+                               "SYMBOL",
+                               new String[] {"PRICE"},
+                               new ValueExtractor[] {Extractors.fromPof(Double.class, "price")},
+                               Function.identity(),
+                               rs -> new Price(rs.getString("SYMBOL"), rs.getDouble("PRICE"))));
+
+    /**
+     * The table for the entity.
+     */
+    protected final Table table;
+
+    /**
+     * The connection pool for the database.
+     */
+    protected final JdbcConnectionPool pool;
+
+    /**
+     * The flush latency statistics.
+     */
+    protected final CacheStoreStatistics statistics = new CacheStoreStatistics("jdbc");
+
+    /**
+     * The maximum number of keys in each query.
+     */
+    protected final int chunkSize = Integer.getInteger(JpaCacheLoader.CHUNK_SIZE_PROPERTY, 1000);
+
+    /**
+     * Construct a {@link JdbcCacheStore}.
+     *
+     * @param entityName       entity name, either {@code Trade} or {@code Price}
+     * @param entityClassName  entity class, which is not used
+     * @param unitName         the persistence unit to obtain the JDBC URL from
+     */
+    public JdbcCacheStore(String entityName, String entityClassName, String unitName) {
+        this.table = TABLES.get(entityName);
+
+        if (table == null) {
+            throw new IllegalArgumentException("Unsupported entity " + entityName + ", must be one of "
+                                               + TABLES.keySet());
+        }
+
+        this.pool = JdbcConnectionPool.getInstance(getUrl(unitName));
+
+        createTable();
+        statistics.register(entityName);
+    }
+
+    @Override
+    public void load(BinaryEntry entry) {
+        loadAll(Collections.singleton(entry));
+    }
+
+    @Override
+    public void loadAll(Set setEntries) {
+        Map<Object, BinaryEntry> mapEntries = new HashMap<>();
+        for (Object o : setEntries) {
+            BinaryEntry entry = (BinaryEntry) o;
+            mapEntries.put(table.primaryKey.apply(entry.getKey()), entry);
+        }
+
+        List listIds = new ArrayList(mapEntries.keySet());
+        Connection connection = acquire();
+
+        try {
+            for (int i = 0; i < listIds.size(); i += chunkSize) {
+                List listChunk = listIds.subList(i, Math.min(i + chunkSize, listIds.size()));
+
+                try (PreparedStatement select = connection.prepareStatement(table.select(listChunk.size()))) {
+                    bindAll(select, listChunk);
+
+                    try (ResultSet rs = select.executeQuery()) {
+                        while (rs.next()) {
+                            mapEntries.get(rs.getObject(table.keyColumn)).setValue(table.mapper.map(rs));
+                        }
+                    }
+                }
+            }
+        }
+        catch (SQLException e) {
+            throw ensureRuntimeException(e, "Failed to load from " + table.name);
+        }
+        finally {
+            pool.release(connection);
+        }
+    }
+
+    @Override
+    public void store(BinaryEntry entry) {
+        storeAll(Collections.singleton(entry));
+    }
+
+    @Override
+    public void storeAll(Set setEntries) {
+        long              start       = System.nanoTime();
+        List<BinaryEntry> listEntries = new ArrayList<>(setEntries);
+        List<BinaryEntry> listInserts;
+        Connection        connection  = acquire();
+
+        try {
+            try (PreparedStatement update = connection.prepareStatement(table.update())) {
+                for (BinaryEntry entry : listEntries) {
+                    bindRow(update, entry);
+                    update.addBatch();
+                }
+
+                // the rows that were not updated don't exist, so must be inserted
+                listInserts = getMissingRows(update, listEntries, update.executeBatch(), this::bindRow);
+            }
+
+            if (!listInserts.isEmpty()) {
+                try (PreparedStatement insert = connection.prepareStatement(table.insert())) {
+                    for (BinaryEntry entry : listInserts) {
+                        bindRow(insert, entry);
+                        insert.addBatch();
+                    }
+
+                    insert.executeBatch();
+                }
+            }
+
+            connection.commit();
+        }
+        catch (SQLException e) {
+            throw ensureRuntimeException(e, "Failed to store to " + table.name);
+        }
+        finally {
+            pool.release(connection);
+            statistics.recordStore(listEntries.size(), System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void erase(BinaryEntry entry) {
+        eraseAll(Collections.singleton(entry));
+    }
+
+    @Override
+    public void eraseAll(Set setEntries) {
+        long       start      = System.nanoTime();
+        List       listIds    = new ArrayList(setEntries.size());
+        Connection connection = acquire();
+
+        for (Object o : setEntries) {
+            listIds.add(table.primaryKey.apply(((BinaryEntry) o).getKey()));
+        }
+
+        try {
+            for (int i = 0; i < listIds.size(); i += chunkSize) {
+                List listChunk = listIds.subList(i, Math.min(i + chunkSize, listIds.size()));
+
+                try (PreparedStatement delete = connection.prepareStatement(table.delete(listChunk.size()))) {
+                    bindAll(delete, listChunk);
+                    delete.executeUpdate();
+                }
+            }
+
+            connection.commit();
+        }
+        catch (SQLException e) {
+            throw ensureRuntimeException(e, "Failed to erase from " + table.name);
+        }
+        finally {
+            pool.release(connection);
+            statistics.recordErase(listIds.size(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Obtain the flush latency statistics.
+     *
+     * @return the statistics
+     */
+    public CacheStoreStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Obtain the connection pool.
+     *
+     * @return the connection pool
+     */
+    public JdbcConnectionPool getConnectionPool() {
+        return pool;
+    }
+
+    /**
+     * Bind the column values, read from the POF encoded value of an entry, to a statement.
+     *
+     * @param statement  the statement
+     * @param entry      the entry
+     *
+     * @return the index of the next parameter
+     *
+     * @throws SQLException if a value could not be bound
+     */
+    protected int bindValues(PreparedStatement statement, BinaryEntry entry) throws SQLException {
+        int index = 1;
+        for (ValueExtractor extractor : table.extractors) {
+            statement.setObject(index++, entry.extract(extractor));
+        }
+        return index;
+    }
+
+    /**
+     * Bind the column values, followed by the primary key, of an entry to an update or
+     * insert statement.
+     *
+     * @param statement  the statement
+     * @param entry      the entry
+     *
+     * @throws SQLException if a value could not be bound
+     */
+    protected void bindRow(PreparedStatement statement, BinaryEntry entry) throws SQLException {
+        int index = bindValues(statement, entry);
+        statement.setObject(index, table.primaryKey.apply(entry.getKey()));
+    }
+
+    /**
+     * Determine the rows that were not updated by a batch of update statements, and so
+     * don't exist.
+     * <p>
+     * If the driver does not report the number of rows updated by a statement in the
+     * batch, the statement is executed again on its own, which is harmless as the update
+     * is idempotent, to find out whether the row exists.
+     *
+     * @param update  the update statement the batch was executed with
+     * @param rows    the rows in the batch, in the order they were added
+     * @param counts  the update counts of the batch
+     * @param binder  binds the parameters of a row to the update statement
+     * @param <T>     the type of the rows
+     *
+     * @return the rows that were not updated
+     *
+     * @throws SQLException if a statement in the batch failed
+     */
+    protected static <T> List<T> getMissingRows(PreparedStatement update, List<T> rows, int[] counts,
+                                                StatementBinder<T> binder) throws SQLException {
+        List<T> listMissing = new ArrayList<>();
+
+        for (int i = 0; i < counts.length; i++) {
+            T   row   = rows.get(i);
+            int count = counts[i];
+
+            if (count == Statement.SUCCESS_NO_INFO) {
+                binder.bind(update, row);
+                count = update.executeUpdate();
+            }
+
+            if (count == Statement.EXECUTE_FAILED) {
+                throw new SQLException("Failed to update row " + i + " of the batch");
+            }
+            if (count == 0) {
+                listMissing.add(row);
+            }
+        }
+
+        return listMissing;
+    }
+
+    /**
+     * Bind the values to a statement, starting with the first parameter.
+     *
+     * @param statement  the statement
+     * @param values     the values
+     *
+     * @throws SQLException if a value could not be bound
+     */
+    protected void bindAll(PreparedStatement statement, List values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            statement.setObject(i + 1, values.get(i));
+        }
+    }
+
+    /**
+     * Acquire a connection from the pool.
+     *
+     * @return the connection
+     */
+    protected Connection acquire() {
+        try {
+            return pool.acquire();
+        }
+        catch (SQLException e) {
+            throw ensureRuntimeException(e);
+        }
+    }
+
+    /**
+     * Create the table if it doesn't exist.
+     */
+    protected void createTable() {
+        Connection connection = acquire();
+
+        try {
+            try (ResultSet rs = connection.getMetaData().getTables(null, null, table.name, null)) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(table.ddl);
+            }
+
+            connection.commit();
+        }
+        catch (SQLException e) {
+            throw ensureRuntimeException(e, "Failed to create " + table.name);
+        }
+        finally {
+            pool.release(connection);
+        }
+    }
+
+    /**
+     * Obtain the JDBC URL from the {@value #URL_PROPERTY} system property, or the persistence unit.
+     *
+     * @param unitName  the persistence unit
+     *
+     * @return the JDBC URL
+     */
+    protected static String getUrl(String unitName) {
+        String url = System.getProperty(URL_PROPERTY);
+
+        if (url == null) {
+            Map<String, Object> properties = JpaCacheLoader.getEntityManagerFactory(unitName).getProperties();
+
+            url = (String) properties.get("jakarta.persistence.jdbc.url");
+        }
+
+        return url;
+    }
+
+    /**
+     * Maps a {@link ResultSet} row to a value.
+     */
+    @FunctionalInterface
+    protected interface RowMapper {
+        /**
+         * Map the current row to a value.
+         *
+         * @param rs  the {@link ResultSet}
+         *
+         * @return the value
+         *
+         * @throws SQLException if the row could not be read
+         */
+        Object map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Binds the parameters of a row to a statement.
+     *
+     * @param <T>  the type of the rows
+     */
+    @FunctionalInterface
+    protected interface StatementBinder<T> {
+        /**
+         * Bind the parameters of a row to a statement.
+         *
+         * @param statement  the statement
+         * @param row        the row
+         *
+         * @throws SQLException if a value could not be bound
+         */
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    /**
+     * The mapping of an entity to a table.
+     */
+    protected static class Table {
+        /**
+         * The name of the table.
+         */
+        protected final String name;
+
+        /**
+         * The DDL to create the table.
+         */
+        protected final String ddl;
+
+        /**
+         * The name of the primary key column.
+         */
+        protected final String keyColumn;
+
+        /**
+         * The names of the other columns.
+         */
+        protected final String[] columns;
+
+        /**
+         * The POF extractors for the other columns.
+         */
+        protected final ValueExtractor[] extractors;
+
+        /**
+         * The function to obtain the primary key from a cache key.
+         */
+        protected final Function<Object, Object> primaryKey;
+
+        /**
+         * The function to map a row to a value.
+         */
+        protected final RowMapper mapper;
+
+        /**
+         * Construct a {@link Table}.
+         *
+         * @param name        the name of the table
+         * @param ddl         the DDL to create the table
+         * @param keyColumn   the name of the primary key column
+         * @param columns     the names of the other columns
+         * @param extractors  the POF extractors for the other columns
+         * @param primaryKey  the function to obtain the primary key from a cache key
+         * @param mapper      the function to map a row to a value
+         */
+        protected Table(String name, String ddl, String keyColumn, String[] columns, ValueExtractor[] extractors,
+                        Function<Object, Object> primaryKey, RowMapper mapper) {
+            this.name = name;
+            this.ddl = ddl;
+            this.keyColumn = keyColumn;
+            this.columns = columns;
+            this.extractors = extractors;
+            this.primaryKey = primaryKey;
+            this.mapper = mapper;
+        }
+
+        /**
+         * Return the SQL to select the rows for a number of keys.
+         *
+         * @param count  the number of keys
+         *
+         * @return the SQL
+         */
+        protected String select(int count) {
+            return "SELECT " + keyColumn + ", " + String.join(", ", columns) + " FROM " + name
+                   + " WHERE " + keyColumn + " IN (" + parameters(count) + ")";
+        }
+
+        /**
+         * Return the SQL to update a row.
+         *
+         * @return the SQL
+         */
+        protected String update() {
+            return "UPDATE " + name + " SET " + String.join(" = ?, ", columns) + " = ? WHERE " + keyColumn + " = ?";
+        }
+
+        /**
+         * Return the SQL to insert a row.
+         *
+         * @return the SQL
+         */
+        protected String insert() {
+            return "INSERT INTO " + name + " (" + String.join(", ", columns) + ", " + keyColumn + ")"
+                   + " VALUES (" + parameters(columns.length + 1) + ")";
+        }
+
+        /**
+         * Return the SQL to delete the rows for a number of keys.
+         *
+         * @param count  the number of keys
+         *
+         * @return the SQL
+         */
+        protected String delete(int count) {
+            return "DELETE FROM " + name + " WHERE " + keyColumn + " IN (" + parameters(count) + ")";
+        }
+
+        /**
+         * Return a comma separated list of parameters.
+         *
+         * @param count  the number of parameters
+         *
+         * @return the parameters
+         */
+        private static String parameters(int count) {
+            return String.join(", ", Collections.nCopies(count, "?"));
+        }
+    }
+}
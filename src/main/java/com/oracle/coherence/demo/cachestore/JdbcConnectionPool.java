@@ -0,0 +1,460 @@
+/*
+ * File: JdbcConnectionPool.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.Cluster;
+
+import com.tangosol.net.management.Registry;
+
+import java.io.PrintWriter;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import java.util.Map;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.logging.Logger;
+
+import javax.management.ObjectName;
+
+import javax.sql.DataSource;
+
+/**
+ * A simple, bounded pool of JDBC connections for a database URL.
+ * <p>
+ * Connections are opened when needed, up to the maximum size of the pool, after
+ * which threads wait for a connection to be released, or closed as it is no longer
+ * usable, which frees capacity for a new connection. The time spent waiting is
+ * recorded, so the pool can be sized for the number of cache store threads.
+ * <p>
+ * The pool is also available as a {@link DataSource}, which is used by the
+ * {@link PooledSessionCustomizer} so the JPA cache loaders and stores share the
+ * pool. The statistics are registered with the Coherence management framework as
+ * {@code type=ConnectionPool,name=<database URL>}.
+ */
+public class JdbcConnectionPool
+        implements JdbcConnectionPoolMBean {
+    /**
+     * System property to set the maximum number of connections in each pool.
+     */
+    public static final String SIZE_PROPERTY = "jdbc.pool.size";
+
+    /**
+     * System property to set the maximum time in milliseconds to wait for a connection.
+     */
+    public static final String TIMEOUT_PROPERTY = "jdbc.pool.timeout";
+
+    /**
+     * The pools, keyed by database URL.
+     */
+    private static final Map<String, JdbcConnectionPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * The database URL.
+     */
+    private final String url;
+
+    /**
+     * The maximum number of connections.
+     */
+    private final int maxSize;
+
+    /**
+     * The maximum time in milliseconds to wait for a connection.
+     */
+    private final long timeout = Long.getLong(TIMEOUT_PROPERTY, 30_000L);
+
+    /**
+     * The idle connections.
+     */
+    private final BlockingQueue<Connection> idle = new LinkedBlockingQueue<>();
+
+    /**
+     * The capacity for connections to be acquired, which is released whenever a
+     * connection is released or closed, so waiting threads are woken in either case.
+     */
+    private final Semaphore capacity;
+
+    /**
+     * The number of open connections.
+     */
+    private final AtomicInteger open = new AtomicInteger();
+
+    /**
+     * The number of connections acquired.
+     */
+    private final LongAdder acquired = new LongAdder();
+
+    /**
+     * The total time in nanoseconds spent waiting for connections.
+     */
+    private final LongAdder waitNanos = new LongAdder();
+
+    /**
+     * The maximum time in nanoseconds spent waiting for a connection.
+     */
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * The view of this pool as a {@link DataSource}.
+     */
+    private final DataSource dataSource = new PooledDataSource();
+
+    /**
+     * Construct a {@link JdbcConnectionPool}.
+     *
+     * @param url      the database URL
+     * @param maxSize  the maximum number of connections
+     */
+    protected JdbcConnectionPool(String url, int maxSize) {
+        this.url = url;
+        this.maxSize = maxSize;
+        this.capacity = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Obtain the pool for a database URL.
+     *
+     * @param url  the database URL
+     *
+     * @return the pool
+     */
+    public static JdbcConnectionPool getInstance(String url) {
+        return POOLS.computeIfAbsent(url, u -> {
+            JdbcConnectionPool pool = new JdbcConnectionPool(u, Integer.getInteger(SIZE_PROPERTY, 8));
+            pool.register();
+            return pool;
+        });
+    }
+
+    /**
+     * Register the statistics with the Coherence management framework, if this member
+     * has joined a cluster and management is enabled.
+     */
+    protected void register() {
+        Cluster  cluster  = CacheFactory.getCluster();
+        Registry registry = cluster.isRunning() ? cluster.getManagement() : null;
+
+        if (registry != null) {
+            registry.register(registry.ensureGlobalName("type=ConnectionPool,name=" + ObjectName.quote(url)), this);
+        }
+    }
+
+    /**
+     * Obtain a {@link DataSource} for this pool. Closing a connection obtained from the
+     * {@link DataSource} releases it back to the pool, and the connection auto-commits
+     * until a transaction is started, as expected by JPA providers.
+     *
+     * @return the {@link DataSource}
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Acquire a connection, waiting if the maximum number of connections are in use.
+     * The connection does not auto-commit.
+     *
+     * @return the connection
+     *
+     * @throws SQLException if a connection could not be opened, or none were released in time
+     */
+    public Connection acquire() throws SQLException {
+        long start = System.nanoTime();
+
+        try {
+            if (!capacity.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out waiting for a connection to " + url);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for a connection to " + url, e);
+        }
+
+        // as each open connection is either idle or holds capacity, a connection can
+        // be opened if there are none idle
+        Connection connection = idle.poll();
+
+        try {
+            if (connection == null) {
+                open.incrementAndGet();
+                try {
+                    connection = DriverManager.getConnection(url);
+                }
+                catch (SQLException | RuntimeException e) {
+                    open.decrementAndGet();
+                    throw e;
+                }
+            }
+
+            // connections released by the data source may be in auto-commit mode
+            if (connection.getAutoCommit()) {
+                connection.setAutoCommit(false);
+            }
+        }
+        catch (SQLException | RuntimeException e) {
+            if (connection != null) {
+                close(connection);
+            }
+            capacity.release();
+            throw e;
+        }
+
+        long wait = System.nanoTime() - start;
+
+        acquired.increment();
+        waitNanos.add(wait);
+        maxWaitNanos.accumulate(wait);
+
+        return connection;
+    }
+
+    /**
+     * Release a connection back to the pool, or close it if it is no longer usable.
+     *
+     * @param connection  the connection
+     */
+    public void release(Connection connection) {
+        try {
+            if (connection.isClosed()) {
+                open.decrementAndGet();
+            }
+            else {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+                idle.offer(connection);
+            }
+        }
+        catch (SQLException e) {
+            close(connection);
+        }
+        finally {
+            capacity.release();
+        }
+    }
+
+    /**
+     * Close a connection that is no longer usable.
+     *
+     * @param connection  the connection
+     */
+    private void close(Connection connection) {
+        try {
+            connection.close();
+        }
+        catch (SQLException ignored) {
+            // ignore
+        }
+
+        open.decrementAndGet();
+    }
+
+    @Override
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public int getOpenCount() {
+        return open.get();
+    }
+
+    @Override
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    @Override
+    public long getAcquiredCount() {
+        return acquired.sum();
+    }
+
+    @Override
+    public double getAverageWaitMillis() {
+        long count = acquired.sum();
+        return count == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / count;
+    }
+
+    @Override
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        acquired.reset();
+        waitNanos.reset();
+        maxWaitNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("JdbcConnectionPool{url=%s, maxSize=%d, open=%d, acquired=%d, avgWait=%.3fms, maxWait=%.3fms}",
+                             url, maxSize, getOpenCount(), getAcquiredCount(), getAverageWaitMillis(), getMaxWaitMillis());
+    }
+
+    /**
+     * A {@link DataSource} that acquires connections from the pool.
+     */
+    private class PooledDataSource
+            implements DataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = acquire();
+
+            try {
+                connection.setAutoCommit(true);
+            }
+            catch (SQLException e) {
+                release(connection);
+                throw e;
+            }
+
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                       new Class<?>[] {Connection.class},
+                                                       new PooledConnection(connection));
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            if (iface.isInstance(this)) {
+                return iface.cast(this);
+            }
+            throw new SQLException("Not a wrapper for " + iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return iface.isInstance(this);
+        }
+    }
+
+    /**
+     * The handler for a connection obtained from the {@link PooledDataSource}, which
+     * releases the connection back to the pool when it is closed.
+     */
+    private class PooledConnection
+            implements InvocationHandler {
+        /**
+         * The pooled connection.
+         */
+        private final Connection connection;
+
+        /**
+         * Flag indicating if the connection has been released.
+         */
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * Construct a {@link PooledConnection}.
+         *
+         * @param connection  the pooled connection
+         */
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (released.compareAndSet(false, true)) {
+                        release(connection);
+                    }
+                    return null;
+
+                case "isClosed":
+                    return released.get() || connection.isClosed();
+
+                case "equals":
+                    return proxy == args[0];
+
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+
+                default:
+                    if (released.get()) {
+                        throw new SQLException("Connection has been closed");
+                    }
+
+                    try {
+                        return method.invoke(connection, args);
+                    }
+                    catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
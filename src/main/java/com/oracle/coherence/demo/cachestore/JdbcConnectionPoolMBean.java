@@ -0,0 +1,79 @@
+/*
+ * File: JdbcConnectionPoolMBean.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+/**
+ * The management interface for {@link JdbcConnectionPool}.
+ */
+public interface JdbcConnectionPoolMBean {
+
+    /**
+     * Obtain the database URL.
+     *
+     * @return the database URL
+     */
+    String getUrl();
+
+    /**
+     * Obtain the maximum number of connections.
+     *
+     * @return the maximum number of connections
+     */
+    int getMaxSize();
+
+    /**
+     * Obtain the number of open connections.
+     *
+     * @return the number of open connections
+     */
+    int getOpenCount();
+
+    /**
+     * Obtain the number of open connections that are not in use.
+     *
+     * @return the number of idle connections
+     */
+    int getIdleCount();
+
+    /**
+     * Obtain the number of connections acquired.
+     *
+     * @return the number of connections acquired
+     */
+    long getAcquiredCount();
+
+    /**
+     * Obtain the average time in milliseconds spent waiting to acquire a connection.
+     *
+     * @return the average wait time
+     */
+    double getAverageWaitMillis();
+
+    /**
+     * Obtain the maximum time in milliseconds spent waiting to acquire a connection.
+     *
+     * @return the maximum wait time
+     */
+    double getMaxWaitMillis();
+
+    /**
+     * Reset the statistics.
+     */
+    void resetStatistics();
+}
@@ -1,7 +1,7 @@
 /*
  * File: JpaCacheLoader.java
  *
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -18,6 +18,8 @@
 
 package com.oracle.coherence.demo.cachestore;
 
+import com.oracle.coherence.demo.model.TradeId;
+
 import com.tangosol.net.cache.CacheLoader;
 
 import com.tangosol.util.Base;
@@ -25,13 +27,36 @@ import com.tangosol.util.Base;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceUnitUtil;
+
+import jakarta.persistence.metamodel.EntityType;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * An implementation of a JPA Cache Loader.
+ * <p>
+ * The {@link #loadAll(Collection)} method splits the keys into chunks, and loads
+ * each chunk using a single query. The chunks are loaded in parallel, each with its
+ * own {@link EntityManager}, using a pool shared by all the loaders.
+ * <p>
+ * Each operation, and each chunk of a {@link #loadAll(Collection)}, uses its own
+ * {@link EntityManager}, which is closed when it completes, so no persistence context
+ * or connection outlives the operation. Unless the {@value #POOL_PROPERTY} system
+ * property is {@code false}, the persistence units use a {@link JdbcConnectionPool},
+ * which is sized using the {@value JdbcConnectionPool#SIZE_PROPERTY} system property.
  *
  * @author Tim Middleton
  */
@@ -39,10 +64,41 @@ import java.util.Map;
 public class JpaCacheLoader
         extends Base
         implements CacheLoader {
+    /**
+     * System property to set the maximum number of keys loaded by each query.
+     */
+    public static final String CHUNK_SIZE_PROPERTY = "jpa.loader.chunk.size";
+
+    /**
+     * System property to set the maximum number of chunks loaded in parallel.
+     */
+    public static final String PARALLELISM_PROPERTY = "jpa.loader.parallelism";
+
+    /**
+     * System property to enable the {@link JdbcConnectionPool} for the persistence units.
+     */
+    public static final String POOL_PROPERTY = "jpa.pool.enabled";
+
     /**
      * {@link Map} of factories keyed on unit name.
      */
-    protected static final Map mapFactories = new HashMap();
+    protected static final Map<String, EntityManagerFactory> mapFactories = new ConcurrentHashMap<>();
+
+    /**
+     * The pool used to load chunks in parallel, which bounds the number of
+     * concurrent queries from all the loaders.
+     */
+    protected static final ExecutorService loadExecutor =
+            Executors.newFixedThreadPool(Integer.getInteger(PARALLELISM_PROPERTY, 4), runnable -> {
+                Thread thread = new Thread(runnable, "JpaCacheLoader");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * The maximum number of keys loaded by each query.
+     */
+    protected int chunkSize = Integer.getInteger(CHUNK_SIZE_PROPERTY, 1000);
 
     /**
      * Entity name.
@@ -54,6 +110,11 @@ public class JpaCacheLoader
      */
     protected Class entityClass;
 
+    /**
+     * Name of the entity identifier attribute.
+     */
+    protected String idAttribute;
+
     /**
      * Entity manager factory.
      */
@@ -88,10 +149,10 @@ public class JpaCacheLoader
 
         Object value;
         try {
-            value = em.find(entityClass, key);
+            value = em.find(entityClass, getPrimaryKey(key));
         }
         finally {
-            em.close();
+            releaseEntityManager(em);
         }
 
         return value;
@@ -99,22 +160,68 @@ public class JpaCacheLoader
 
     @Override
     public Map loadAll(Collection keys) {
+        // the cache key for each primary key, to map the loaded entities back to the cache keys
+        Map mapKeys = new HashMap(keys.size());
+        for (Object key : keys) {
+            mapKeys.put(getPrimaryKey(key), key);
+        }
+
+        List listIds = new ArrayList(mapKeys.keySet());
+        if (listIds.size() <= chunkSize) {
+            return loadChunk(listIds, mapKeys);
+        }
+
+        List<Future<Map>> listFutures = new ArrayList<>();
+        for (int i = 0; i < listIds.size(); i += chunkSize) {
+            List listChunk = listIds.subList(i, Math.min(i + chunkSize, listIds.size()));
+
+            listFutures.add(loadExecutor.submit(() -> loadChunk(listChunk, mapKeys)));
+        }
+
+        Map mapResult = new HashMap(keys.size());
+        try {
+            for (Future<Map> future : listFutures) {
+                mapResult.putAll(future.get());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ensureRuntimeException(e, "Interrupted loading " + entityName + " entities");
+        }
+        catch (ExecutionException e) {
+            throw ensureRuntimeException(e.getCause());
+        }
+
+        return mapResult;
+    }
+
+    /**
+     * Load a chunk of entities using a single query.
+     *
+     * @param ids      the primary keys of the entities to load
+     * @param mapKeys  the cache key for each primary key
+     *
+     * @return the loaded entities keyed by their cache keys
+     */
+    protected Map loadChunk(Collection ids, Map mapKeys) {
         EntityManager em = getEntityManager();
 
         try {
-            Map mapResult = new HashMap();
+            List listEntities = em.createQuery("SELECT e FROM " + entityName + " e WHERE e." + idAttribute + " IN :ids")
+                                  .setParameter("ids", ids)
+                                  .getResultList();
+
+            PersistenceUnitUtil util      = emf.getPersistenceUnitUtil();
+            Map                 mapResult = new HashMap(listEntities.size());
 
-            for (Object key : keys) {
-                Object value = em.find(entityClass, key);
-                if (value != null) {
-                    mapResult.put(key, value);
-                }
+            for (Object entity : listEntities) {
+                mapResult.put(mapKeys.get(util.getIdentifier(entity)), entity);
             }
 
             return mapResult;
         }
         finally {
-            em.close();
+            releaseEntityManager(em);
         }
     }
 
@@ -144,20 +251,68 @@ public class JpaCacheLoader
                 throw ensureRuntimeException(var8, "Class " + entityClassName + " could not be loaded");
             }
 
-            synchronized (mapFactories) {
-                emf = (EntityManagerFactory) mapFactories.get(unitName);
-                if (emf == null) {
-                    mapFactories.put(unitName, emf = Persistence.createEntityManagerFactory(unitName));
-                }
-            }
+            emf = getEntityManagerFactory(unitName);
+
+            EntityType entityType = emf.getMetamodel().entity(entityClass);
+            this.idAttribute = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        }
+    }
+
+    /**
+     * Return the primary key of the entity for a cache key.
+     *
+     * @param key  the cache key
+     *
+     * @return the primary key of the entity
+     */
+    protected Object getPrimaryKey(Object key) {
+        return key instanceof TradeId tradeId ? tradeId.getId() : key;
+    }
+
+    /**
+     * Obtain the shared {@link EntityManagerFactory} for a persistence unit.
+     *
+     * @param unitName  unit name
+     *
+     * @return the {@link EntityManagerFactory}
+     */
+    protected static EntityManagerFactory getEntityManagerFactory(String unitName) {
+        return mapFactories.computeIfAbsent(unitName, JpaCacheLoader::createEntityManagerFactory);
+    }
+
+    /**
+     * Create the {@link EntityManagerFactory} for a persistence unit, using a
+     * {@link JdbcConnectionPool} unless disabled by the {@value #POOL_PROPERTY} system property.
+     *
+     * @param unitName  unit name
+     *
+     * @return the {@link EntityManagerFactory}
+     */
+    protected static EntityManagerFactory createEntityManagerFactory(String unitName) {
+        if (Boolean.parseBoolean(System.getProperty(POOL_PROPERTY, "true"))) {
+            return Persistence.createEntityManagerFactory(unitName,
+                    Map.of(PersistenceUnitProperties.SESSION_CUSTOMIZER, PooledSessionCustomizer.class.getName()));
         }
+        return Persistence.createEntityManagerFactory(unitName);
     }
 
     /**
-     * Return the {@link EntityManager}.
+     * Return a new {@link EntityManager} for an operation, which must be released
+     * using {@link #releaseEntityManager(EntityManager)} when the operation completes.
+     *
      * @return the {@link EntityManager}
      */
     protected EntityManager getEntityManager() {
         return this.emf.createEntityManager();
     }
+
+    /**
+     * Release the {@link EntityManager} of an operation, closing it so its persistence
+     * context, and any connection it holds, is released.
+     *
+     * @param em  the {@link EntityManager}
+     */
+    protected void releaseEntityManager(EntityManager em) {
+        em.close();
+    }
 }
@@ -1,7 +1,7 @@
 /*
  * File: JpaCacheStore.java
  *
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -18,16 +18,43 @@
 
 package com.oracle.coherence.demo.cachestore;
 
+import com.oracle.coherence.demo.model.Trade;
+import com.oracle.coherence.demo.model.TradeId;
+
 import com.tangosol.net.cache.CacheStore;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
 
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+
+import org.eclipse.persistence.mappings.DatabaseMapping;
+
+import org.eclipse.persistence.sessions.Session;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * An implementation of a JPA Cache Store.
+ * <p>
+ * By default, entities are written using JDBC batches that update the existing rows
+ * and then insert the rows that did not exist, and are erased using bulk JPQL
+ * deletes, so the entities are never read before they are written. Setting the
+ * {@value #WRITE_MODE_PROPERTY} system property to {@value #MODE_MERGE} uses
+ * {@link EntityManager#merge} and {@link EntityManager#remove} instead, which read
+ * each entity first.
+ * <p>
+ * The time taken by each operation is recorded by the {@link CacheStoreStatistics}.
  *
  * @author Tim Middleton
  */
@@ -35,6 +62,51 @@ import java.util.Map;
 public class JpaCacheStore
         extends JpaCacheLoader
         implements CacheStore {
+    /**
+     * System property to set how entities are written, either {@value #MODE_UPSERT} or {@value #MODE_MERGE}.
+     */
+    public static final String WRITE_MODE_PROPERTY = "jpa.store.mode";
+
+    /**
+     * Write entities using JDBC batch updates and inserts, and erase them using bulk deletes.
+     */
+    public static final String MODE_UPSERT = "upsert";
+
+    /**
+     * Write entities using {@link EntityManager#merge} and erase them using {@link EntityManager#remove}.
+     */
+    public static final String MODE_MERGE = "merge";
+
+    /**
+     * The method used to write entities.
+     */
+    protected final String writeMode = System.getProperty(WRITE_MODE_PROPERTY, MODE_UPSERT);
+
+    /**
+     * The flush latency statistics.
+     */
+    protected final CacheStoreStatistics statistics = new CacheStoreStatistics(writeMode);
+
+    /**
+     * The mappings of the primary key columns, initialized on first use.
+     */
+    protected List<DatabaseMapping> keyMappings;
+
+    /**
+     * The mappings of the other columns, initialized on first use.
+     */
+    protected List<DatabaseMapping> valueMappings;
+
+    /**
+     * The SQL to update a row.
+     */
+    protected String sqlUpdate;
+
+    /**
+     * The SQL to insert a row.
+     */
+    protected String sqlInsert;
+
     /**
      * Construct a {@link JpaCacheStore} with no {@link ClassLoader}.
      *
@@ -45,6 +117,7 @@ public class JpaCacheStore
     @SuppressWarnings("unused")
     public JpaCacheStore(String entityName, String entityClassName, String unitName) {
         super(entityName, entityClassName, unitName);
+        statistics.register(entityName);
     }
 
     /**
@@ -58,39 +131,33 @@ public class JpaCacheStore
     @SuppressWarnings("unused")
     public JpaCacheStore(String entityName, String entityClassName, String unitName, ClassLoader loader) {
         super(entityName, entityClassName, unitName, loader);
+        statistics.register(entityName);
     }
 
     @Override
     public void store(Object key, Object value) {
-        EntityManager     em = this.getEntityManager();
-        EntityTransaction tx = null;
-
-        try {
-            tx = em.getTransaction();
-            tx.begin();
-            em.merge(value);
-            tx.commit();
-        }
-        catch (RuntimeException e) {
-            this.rollback(tx);
-            throw e;
-        }
-        finally {
-            em.close();
-        }
+        storeAll(Collections.singletonMap(key, value));
     }
 
     @Override
     public void storeAll(Map map) {
-        EntityManager     em = this.getEntityManager();
-        EntityTransaction tx = null;
+        long              start = System.nanoTime();
+        EntityManager     em    = this.getEntityManager();
+        EntityTransaction tx    = null;
+
+        map.forEach(this::restoreId);
 
         try {
             tx = em.getTransaction();
             tx.begin();
 
-            for (Object value : map.values()) {
-                em.merge(value);
+            if (MODE_MERGE.equals(writeMode)) {
+                for (Object value : map.values()) {
+                    em.merge(value);
+                }
+            }
+            else {
+                upsertAll(em, map.values());
             }
 
             tx.commit();
@@ -100,21 +167,42 @@ public class JpaCacheStore
             throw e;
         }
         finally {
-            em.close();
+            releaseEntityManager(em);
+            statistics.recordStore(map.size(), System.nanoTime() - start);
         }
     }
 
     @Override
     public void erase(Object key) {
-        EntityManager     em = this.getEntityManager();
-        EntityTransaction tx = null;
+        eraseAll(Collections.singleton(key));
+    }
+
+    @Override
+    public void eraseAll(Collection keys) {
+        long              start = System.nanoTime();
+        EntityManager     em    = this.getEntityManager();
+        EntityTransaction tx    = null;
 
         try {
             tx = em.getTransaction();
             tx.begin();
-            Object value = em.find(entityClass, key);
-            if (value != null) {
-                em.remove(value);
+
+            if (MODE_MERGE.equals(writeMode)) {
+                for (Object key : keys) {
+                    Object value = em.find(entityClass, getPrimaryKey(key));
+                    if (value != null) {
+                        em.remove(value);
+                    }
+                }
+            }
+            else {
+                List listIds = (List) keys.stream().map(this::getPrimaryKey).collect(Collectors.toList());
+
+                for (int i = 0; i < listIds.size(); i += chunkSize) {
+                    em.createQuery("DELETE FROM " + entityName + " e WHERE e." + idAttribute + " IN :ids")
+                      .setParameter("ids", listIds.subList(i, Math.min(i + chunkSize, listIds.size())))
+                      .executeUpdate();
+                }
             }
 
             tx.commit();
@@ -124,35 +212,154 @@ public class JpaCacheStore
             throw e;
         }
         finally {
-            em.close();
+            releaseEntityManager(em);
+            statistics.recordErase(keys.size(), System.nanoTime() - start);
         }
     }
 
-    @Override
-    public void eraseAll(Collection keys) {
-        EntityManager     em = this.getEntityManager();
-        EntityTransaction tx = null;
+    /**
+     * Obtain the flush latency statistics.
+     *
+     * @return the statistics
+     */
+    public CacheStoreStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Restore the identifier of a {@link Trade} from its {@link TradeId}, as the
+     * identifier is not serialized with trades written by earlier versions.
+     *
+     * @param key    the key
+     * @param value  the entity
+     */
+    protected void restoreId(Object key, Object value) {
+        if (key instanceof TradeId tradeId && value instanceof Trade trade && trade.getId() == null) {
+            trade.setId(tradeId.getId());
+        }
+    }
+
+    /**
+     * Write the entities using a JDBC batch to update the existing rows, followed by
+     * a batch to insert the rows that were not updated.
+     * <p>
+     * If the driver does not report the number of rows updated by a statement in the
+     * batch, the statement is executed again on its own, which is harmless as the update
+     * is idempotent, to find out whether the row exists. The statements bypass the
+     * EclipseLink shared cache, which is disabled for the persistence unit, as Coherence
+     * caches the entities.
+     *
+     * @param em        the {@link EntityManager} with an active transaction
+     * @param entities  the entities to write
+     */
+    protected void upsertAll(EntityManager em, Collection entities) {
+        initializeStatements(em);
+
+        // the connection of the active transaction
+        Connection connection = em.unwrap(Connection.class);
 
         try {
-            tx = em.getTransaction();
-            tx.begin();
+            List listEntities = new ArrayList(entities);
+            List listInserts  = new ArrayList();
 
-            for (Object key : keys) {
-                Object value = em.find(entityClass, key);
-                if (value != null) {
-                    em.remove(value);
+            try (PreparedStatement update = connection.prepareStatement(sqlUpdate)) {
+                for (Object entity : listEntities) {
+                    int index = bind(update, 1, valueMappings, entity);
+                    bind(update, index, keyMappings, entity);
+                    update.addBatch();
+                }
+
+                // the rows that were not updated don't exist, so must be inserted
+                int[] counts = update.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    Object entity = listEntities.get(i);
+                    int    count  = counts[i];
+
+                    if (count == Statement.SUCCESS_NO_INFO) {
+                        int index = bind(update, 1, valueMappings, entity);
+                        bind(update, index, keyMappings, entity);
+                        count = update.executeUpdate();
+                    }
+
+                    if (count == Statement.EXECUTE_FAILED) {
+                        throw new SQLException("Failed to update " + entityName + " entity " + entity);
+                    }
+                    if (count == 0) {
+                        listInserts.add(entity);
+                    }
                 }
             }
 
-            tx.commit();
+            if (!listInserts.isEmpty()) {
+                try (PreparedStatement insert = connection.prepareStatement(sqlInsert)) {
+                    for (Object entity : listInserts) {
+                        int index = bind(insert, 1, valueMappings, entity);
+                        bind(insert, index, keyMappings, entity);
+                        insert.addBatch();
+                    }
+
+                    insert.executeBatch();
+                }
+            }
         }
-        catch (RuntimeException e) {
-            this.rollback(tx);
-            throw e;
+        catch (SQLException e) {
+            throw ensureRuntimeException(e, "Failed to write " + entityName + " entities");
         }
-        finally {
-            em.close();
+    }
+
+    /**
+     * Bind the values of the mapped attributes of an entity to a statement.
+     *
+     * @param statement  the statement
+     * @param index      the index of the first parameter to bind
+     * @param mappings   the mappings of the attributes to bind
+     * @param entity     the entity
+     *
+     * @return the index of the next parameter
+     *
+     * @throws SQLException if a value could not be bound
+     */
+    protected int bind(PreparedStatement statement, int index, List<DatabaseMapping> mappings, Object entity)
+            throws SQLException {
+        for (DatabaseMapping mapping : mappings) {
+            statement.setObject(index++, mapping.getAttributeValueFromObject(entity));
         }
+        return index;
+    }
+
+    /**
+     * Create the SQL statements for the entity table from its EclipseLink descriptor,
+     * if not already created.
+     *
+     * @param em  the {@link EntityManager}
+     */
+    protected synchronized void initializeStatements(EntityManager em) {
+        if (sqlUpdate != null) {
+            return;
+        }
+
+        ClassDescriptor descriptor = em.unwrap(Session.class).getClassDescriptor(entityClass);
+        String          table      = descriptor.getTableName();
+
+        keyMappings = new ArrayList<>();
+        valueMappings = new ArrayList<>();
+
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            if (mapping.isDirectToFieldMapping()) {
+                (mapping.isPrimaryKeyMapping() ? keyMappings : valueMappings).add(mapping);
+            }
+        }
+
+        String values = valueMappings.stream().map(m -> m.getField().getName() + " = ?").collect(Collectors.joining(", "));
+        String keys   = keyMappings.stream().map(m -> m.getField().getName() + " = ?").collect(Collectors.joining(" AND "));
+
+        List<DatabaseMapping> listAll = new ArrayList<>(valueMappings);
+        listAll.addAll(keyMappings);
+
+        sqlInsert = "INSERT INTO " + table
+                    + " (" + listAll.stream().map(m -> m.getField().getName()).collect(Collectors.joining(", ")) + ")"
+                    + " VALUES (" + listAll.stream().map(m -> "?").collect(Collectors.joining(", ")) + ")";
+        sqlUpdate = "UPDATE " + table + " SET " + values + " WHERE " + keys;
     }
 
     /**
@@ -0,0 +1,45 @@
+/*
+ * File: PooledSessionCustomizer.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.JNDIConnector;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionCustomizer;
+
+/**
+ * An EclipseLink {@link SessionCustomizer} that replaces the internal connection pools
+ * of a persistence unit with the {@link JdbcConnectionPool} for its database URL.
+ * <p>
+ * This bounds the connections to the database used by all the cache loaders and
+ * stores for a persistence unit, including the {@link JdbcCacheStore}, to the size of
+ * the pool, and records the time spent waiting for a connection.
+ */
+public class PooledSessionCustomizer
+        implements SessionCustomizer {
+
+    @Override
+    public void customize(Session session) {
+        DatabaseLogin      login = session.getLogin();
+        JdbcConnectionPool pool  = JdbcConnectionPool.getInstance(login.getConnectionString());
+
+        login.setConnector(new JNDIConnector(pool.getDataSource()));
+        login.setUsesExternalConnectionPooling(true);
+    }
+}
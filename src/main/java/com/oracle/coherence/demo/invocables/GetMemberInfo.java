@@ -1,7 +1,7 @@
 /*
  * File: GetMemberInfo.java
  *
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -29,6 +29,19 @@ import com.tangosol.net.CacheService;
 import com.tangosol.net.ExtensibleConfigurableCacheFactory;
 import com.tangosol.net.Member;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.net.cache.ConfigurableCacheMap;
+import com.tangosol.net.cache.ReadWriteBackingMap;
+
+import com.tangosol.net.management.Registry;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import java.util.Map;
+import java.util.Set;
 
 import static com.oracle.coherence.demo.application.Utilities.TRADE_CACHE;
 
@@ -45,6 +58,22 @@ public class GetMemberInfo
      */
     private String cacheName;
 
+    /**
+     * The attributes of the service management bean that are collected.
+     */
+    private static final Set<String> SERVICE_ATTRIBUTES =
+            Set.of("ThreadCount", "ThreadIdleCount", "TaskBacklog", "EventBacklog");
+
+    /**
+     * The total bytes allocated by the live threads when the allocation rate was last sampled.
+     */
+    private static long lastAllocatedBytes = -1L;
+
+    /**
+     * The time in nanoseconds when the allocation rate was last sampled.
+     */
+    private static long lastAllocationSample;
+
     /**
      * Constructs a {@link GetMemberInfo} (for serialization).
      */
@@ -62,20 +91,38 @@ public class GetMemberInfo
         this.cacheName = cacheName;
     }
 
-    @SuppressWarnings("rawtypes")
     @Override
     public void run() {
-        // calculate number of entries for the specified named cache
-        int entryCount = 0;
+        setResult(collect(cacheName));
+    }
+
+    /**
+     * Collect the {@link MemberInfo} for the local member.
+     * <p>
+     * All the information is read from the local member, either from the JVM management
+     * beans, the partition assignments of the cache service, or the local Coherence
+     * management beans, so it is cheap enough to collect on every publishing interval.
+     *
+     * @param cacheName  name of the cache to get information for
+     *
+     * @return the {@link MemberInfo} for the local member
+     */
+    @SuppressWarnings("rawtypes")
+    public static MemberInfo collect(String cacheName) {
+        // calculate number of entries and units for the specified named cache
+        int  entryCount      = 0;
+        long backingMapBytes = -1L;
         NamedCache namedCache = TRADE_CACHE.equals(cacheName)
                                 ? Utilities.getTradesCache()
                                 : Utilities.getPricesCache();
+        CacheService cacheService = namedCache == null ? null : namedCache.getCacheService();
 
-        if (namedCache != null) {
-            CacheService cacheService = namedCache.getCacheService();
-
+        if (cacheService != null) {
             if (cacheService.getBackingMapManager() instanceof ExtensibleConfigurableCacheFactory.Manager backingMapManager) {
-                entryCount = backingMapManager.getBackingMap(cacheName).size();
+                Map backingMap = backingMapManager.getBackingMap(cacheName);
+
+                entryCount      = backingMap.size();
+                backingMapBytes = getBackingMapBytes(backingMap);
             }
         }
 
@@ -88,6 +135,119 @@ public class GetMemberInfo
         // construct the MemberInfo for the result
         MemberInfo memberInfo = new MemberInfo(member, runtime, entryCount);
 
-        setResult(memberInfo);
+        memberInfo.setBackingMapBytes(backingMapBytes);
+        memberInfo.setAllocationRate(sampleAllocationRate());
+
+        long gcCount = 0L;
+        long gcTime  = 0L;
+
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // the count and time are -1 if they are not available for a collector
+            gcCount += Math.max(0L, bean.getCollectionCount());
+            gcTime  += Math.max(0L, bean.getCollectionTime());
+        }
+
+        memberInfo.setGcCount(gcCount);
+        memberInfo.setGcTime(gcTime);
+
+        if (cacheService instanceof PartitionedService partitionedService) {
+            int primaryPartitions = 0;
+            int backupPartitions  = 0;
+            int backupCount       = partitionedService.getBackupCount();
+
+            for (int partition = 0; partition < partitionedService.getPartitionCount(); partition++) {
+                if (member.equals(partitionedService.getPartitionOwner(partition))) {
+                    primaryPartitions++;
+                }
+
+                for (int backup = 1; backup <= backupCount; backup++) {
+                    if (member.equals(partitionedService.getBackupOwner(partition, backup))) {
+                        backupPartitions++;
+                    }
+                }
+            }
+
+            memberInfo.setPrimaryPartitions(primaryPartitions);
+            memberInfo.setBackupPartitions(backupPartitions);
+        }
+
+        Registry registry = CacheFactory.getCluster().getManagement();
+
+        if (cacheService != null && registry != null) {
+            String              sMBean     = registry.ensureGlobalName("type=Service,name="
+                                                                       + cacheService.getInfo().getServiceName());
+            Map<String, Object> attributes = registry.getMBeanServerProxy().local().getAttributes(sMBean,
+                    name -> SERVICE_ATTRIBUTES.contains(name));
+
+            int threadCount     = getInt(attributes, "ThreadCount");
+            int threadIdleCount = getInt(attributes, "ThreadIdleCount");
+
+            memberInfo.setThreadUtilization(threadCount <= 0
+                                            ? 0.0
+                                            : (double) (threadCount - threadIdleCount) / threadCount);
+            memberInfo.setTaskBacklog(getInt(attributes, "TaskBacklog"));
+            memberInfo.setEventBacklog(getInt(attributes, "EventBacklog"));
+        }
+
+        return memberInfo;
+    }
+
+    /**
+     * Obtain the size of a backing map in bytes, using the units of the map, or of
+     * the internal map of a {@link ReadWriteBackingMap}, which are calculated using
+     * the {@code BINARY} unit calculator.
+     *
+     * @param backingMap  the backing map
+     *
+     * @return the size in bytes, or {@code -1} if the backing map does not calculate units
+     */
+    @SuppressWarnings("rawtypes")
+    private static long getBackingMapBytes(Map backingMap) {
+        Map map = backingMap instanceof ReadWriteBackingMap rwbm ? rwbm.getInternalCache() : backingMap;
+
+        return map instanceof ConfigurableCacheMap cache
+               ? (long) cache.getUnits() * cache.getUnitFactor()
+               : -1L;
+    }
+
+    /**
+     * Sample the bytes allocated per second by this member since the previous sample.
+     * <p>
+     * The allocations are those of the live threads, so the allocations of threads that
+     * have finished since the previous sample are not included.
+     *
+     * @return the bytes allocated per second, or {@code -1} if the rate is not available
+     */
+    private static synchronized long sampleAllocationRate() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean sunThreadBean)) {
+            return -1L;
+        }
+
+        long allocatedBytes = sunThreadBean.getTotalThreadAllocatedBytes();
+        long now            = System.nanoTime();
+        long rate           = -1L;
+
+        if (allocatedBytes >= 0 && lastAllocatedBytes >= 0 && now > lastAllocationSample) {
+            rate = Math.max(0L, (long) ((allocatedBytes - lastAllocatedBytes) * 1.0e9 / (now - lastAllocationSample)));
+        }
+
+        lastAllocatedBytes   = allocatedBytes;
+        lastAllocationSample = now;
+
+        return rate;
+    }
+
+    /**
+     * Obtain an integer attribute, or {@code 0} if the attribute is not available.
+     *
+     * @param attributes  the attributes
+     * @param name        the name of the attribute
+     *
+     * @return the value of the attribute
+     */
+    private static int getInt(Map<String, Object> attributes, String name) {
+        return attributes.get(name) instanceof Number number ? number.intValue() : 0;
     }
 }
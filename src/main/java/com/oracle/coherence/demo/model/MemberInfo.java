@@ -1,7 +1,7 @@
 /*
  * File: MemberInfo.java
  *
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -23,6 +23,7 @@ import com.tangosol.internal.tracing.TracingHelper;
 import com.tangosol.io.pof.PortableObject;
 
 import com.tangosol.io.pof.schema.annotation.PortableType;
+import com.tangosol.net.CacheFactory;
 import com.tangosol.net.Member;
 
 import jakarta.xml.bind.annotation.XmlAccessType;
@@ -76,6 +77,56 @@ public class MemberInfo {
      */
     private String roleName;
 
+    /**
+     * The cluster time, in milliseconds, when the information was collected.
+     */
+    private long timestamp;
+
+    /**
+     * The total number of garbage collections of all the collectors.
+     */
+    private long gcCount;
+
+    /**
+     * The total time in milliseconds of the garbage collections of all the collectors.
+     */
+    private long gcTime;
+
+    /**
+     * The bytes allocated per second since the information was previously collected, or {@code -1} if not available.
+     */
+    private long allocationRate;
+
+    /**
+     * The number of primary partitions owned by the member.
+     */
+    private int primaryPartitions;
+
+    /**
+     * The number of backup partitions owned by the member.
+     */
+    private int backupPartitions;
+
+    /**
+     * The size of the backing map in bytes, or {@code -1} if not available.
+     */
+    private long backingMapBytes;
+
+    /**
+     * The fraction of the service threads that are busy, between {@code 0} and {@code 1}.
+     */
+    private double threadUtilization;
+
+    /**
+     * The number of tasks waiting for a service thread.
+     */
+    private int taskBacklog;
+
+    /**
+     * The number of events waiting for the service event dispatcher.
+     */
+    private int eventBacklog;
+
 
     /**
      * Default Constructor (required and used only by {@link PortableObject}).
@@ -104,6 +155,7 @@ public class MemberInfo {
         this.entryCount = entryCount;
         this.tracingEnabled = TracingHelper.isEnabled();
         this.roleName = member.getRoleName();
+        this.timestamp = CacheFactory.getCluster().getTimeMillis();
     }
 
 
@@ -180,6 +232,15 @@ public class MemberInfo {
         return roleName;
     }
 
+    /**
+     * Obtain the cluster time, in milliseconds, when the information was collected.
+     *
+     * @return the cluster time when the information was collected
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
     /**
      * Sets the number of entries stored for the member.
      *
@@ -188,4 +249,166 @@ public class MemberInfo {
     public void setEntryCount(int entryCount) {
         this.entryCount = entryCount;
     }
+
+    /**
+     * Obtain the number of garbage collections.
+     *
+     * @return the number of garbage collections
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Sets the number of garbage collections.
+     *
+     * @param gcCount  the number of garbage collections
+     */
+    public void setGcCount(long gcCount) {
+        this.gcCount = gcCount;
+    }
+
+    /**
+     * Obtain the garbage collection time in milliseconds.
+     *
+     * @return the garbage collection time in milliseconds
+     */
+    public long getGcTime() {
+        return gcTime;
+    }
+
+    /**
+     * Sets the garbage collection time in milliseconds.
+     *
+     * @param gcTime  the garbage collection time in milliseconds
+     */
+    public void setGcTime(long gcTime) {
+        this.gcTime = gcTime;
+    }
+
+    /**
+     * Obtain the bytes allocated per second.
+     *
+     * @return the bytes allocated per second
+     */
+    public long getAllocationRate() {
+        return allocationRate;
+    }
+
+    /**
+     * Sets the bytes allocated per second.
+     *
+     * @param allocationRate  the bytes allocated per second
+     */
+    public void setAllocationRate(long allocationRate) {
+        this.allocationRate = allocationRate;
+    }
+
+    /**
+     * Obtain the number of primary partitions.
+     *
+     * @return the number of primary partitions
+     */
+    public int getPrimaryPartitions() {
+        return primaryPartitions;
+    }
+
+    /**
+     * Sets the number of primary partitions.
+     *
+     * @param primaryPartitions  the number of primary partitions
+     */
+    public void setPrimaryPartitions(int primaryPartitions) {
+        this.primaryPartitions = primaryPartitions;
+    }
+
+    /**
+     * Obtain the number of backup partitions.
+     *
+     * @return the number of backup partitions
+     */
+    public int getBackupPartitions() {
+        return backupPartitions;
+    }
+
+    /**
+     * Sets the number of backup partitions.
+     *
+     * @param backupPartitions  the number of backup partitions
+     */
+    public void setBackupPartitions(int backupPartitions) {
+        this.backupPartitions = backupPartitions;
+    }
+
+    /**
+     * Obtain the size of the backing map in bytes.
+     *
+     * @return the size of the backing map in bytes
+     */
+    public long getBackingMapBytes() {
+        return backingMapBytes;
+    }
+
+    /**
+     * Sets the size of the backing map in bytes.
+     *
+     * @param backingMapBytes  the size of the backing map in bytes
+     */
+    public void setBackingMapBytes(long backingMapBytes) {
+        this.backingMapBytes = backingMapBytes;
+    }
+
+    /**
+     * Obtain the thread utilization.
+     *
+     * @return the thread utilization
+     */
+    public double getThreadUtilization() {
+        return threadUtilization;
+    }
+
+    /**
+     * Sets the thread utilization.
+     *
+     * @param threadUtilization  the thread utilization
+     */
+    public void setThreadUtilization(double threadUtilization) {
+        this.threadUtilization = threadUtilization;
+    }
+
+    /**
+     * Obtain the task backlog.
+     *
+     * @return the task backlog
+     */
+    public int getTaskBacklog() {
+        return taskBacklog;
+    }
+
+    /**
+     * Sets the task backlog.
+     *
+     * @param taskBacklog  the task backlog
+     */
+    public void setTaskBacklog(int taskBacklog) {
+        this.taskBacklog = taskBacklog;
+    }
+
+    /**
+     * Obtain the event backlog.
+     *
+     * @return the event backlog
+     */
+    public int getEventBacklog() {
+        return eventBacklog;
+    }
+
+    /**
+     * Sets the event backlog.
+     *
+     * @param eventBacklog  the event backlog
+     */
+    public void setEventBacklog(int eventBacklog) {
+        this.eventBacklog = eventBacklog;
+    }
 }
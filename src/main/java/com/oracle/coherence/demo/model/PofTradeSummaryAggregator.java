@@ -0,0 +1,109 @@
+/*
+ * File: PofTradeSummaryAggregator.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.model;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+
+import com.tangosol.util.Extractors;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.ValueExtractor;
+
+/**
+ * An aggregator to summarise trade information across all trades, which reads the
+ * quantity and price directly from the POF encoded {@link Trade} rather than
+ * deserializing each {@link Trade}.
+ * <p>
+ * Unlike {@link TradeSummaryAggregator}, the partial result is accumulated in
+ * primitive fields and only converted to a {@link TradeSummary} when it is returned.
+ */
+@PortableType(id = 1009)
+public class PofTradeSummaryAggregator
+        implements InvocableMap.StreamingAggregator<TradeId, Trade, TradeSummary, TradeSummary> {
+
+    /**
+     * The extractor for the {@link Trade} quantity.
+     */
+    private static final ValueExtractor<Trade, Integer> QUANTITY = Extractors.fromPof(Integer.class, Trade.POF_QUANTITY);
+
+    /**
+     * The extractor for the {@link Trade} price.
+     */
+    private static final ValueExtractor<Trade, Double> PRICE = Extractors.fromPof(Double.class, Trade.POF_PRICE);
+
+    /**
+     * The total number of shares.
+     */
+    private transient long quantity;
+
+    /**
+     * The number of trades.
+     */
+    private transient int count;
+
+    /**
+     * The total purchase value.
+     */
+    private transient double purchaseValue;
+
+    /**
+     * Construct a {@link PofTradeSummaryAggregator}.
+     */
+    public PofTradeSummaryAggregator() {
+        super();
+    }
+
+    @Override
+    public InvocableMap.StreamingAggregator<TradeId, Trade, TradeSummary, TradeSummary> supply() {
+        return new PofTradeSummaryAggregator();
+    }
+
+    @Override
+    public boolean accumulate(InvocableMap.Entry<? extends TradeId, ? extends Trade> entry) {
+        int    tradeQuantity = entry.extract(QUANTITY);
+        double tradePrice    = entry.extract(PRICE);
+
+        quantity += tradeQuantity;
+        count++;
+        purchaseValue += tradeQuantity * tradePrice;
+        return true;
+    }
+
+    @Override
+    public boolean combine(TradeSummary tradeSummary) {
+        quantity += tradeSummary.getQuantity();
+        count += tradeSummary.getCount();
+        purchaseValue += tradeSummary.getPurchaseValue();
+        return true;
+    }
+
+    @Override
+    public TradeSummary getPartialResult() {
+        return new TradeSummary(quantity, count, purchaseValue);
+    }
+
+    @Override
+    public TradeSummary finalizeResult() {
+        return getPartialResult();
+    }
+
+    @Override
+    public int characteristics() {
+        return PARALLEL | PRESENT_ONLY;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * File: PriceUpdateTransformer.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.model;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapEventTransformer;
+
+/**
+ * A {@link MapEventTransformer} that replaces the {@link Price} values of an event
+ * with just the prices, so listeners are only sent the symbol (the key) and the old
+ * and new prices.
+ * <p>
+ * The transformation is performed on the storage member that raises the event.
+ */
+@PortableType(id = 1011)
+public class PriceUpdateTransformer
+        implements MapEventTransformer<String, Price, Double> {
+
+    /**
+     * Construct a {@link PriceUpdateTransformer}.
+     */
+    public PriceUpdateTransformer() {
+        super();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public MapEvent<String, Double> transform(MapEvent<String, Price> event) {
+        Price oldPrice = event.getOldValue();
+        Price newPrice = event.getNewValue();
+
+        return new MapEvent(event.getMap(), event.getId(), event.getKey(),
+                            oldPrice == null ? null : oldPrice.getPrice(),
+                            newPrice == null ? null : newPrice.getPrice());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PriceUpdateTransformer;
+    }
+
+    @Override
+    public int hashCode() {
+        return PriceUpdateTransformer.class.getName().hashCode();
+    }
+}
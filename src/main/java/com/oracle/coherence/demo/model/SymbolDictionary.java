@@ -0,0 +1,213 @@
+/*
+ * File: SymbolDictionary.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.model;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.extractor.AbstractExtractor;
+import com.tangosol.util.extractor.PofExtractor;
+
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The dictionary of the symbols (ticker codes) traded by the demo, which serializes
+ * each symbol as a small integer code rather than a string.
+ * <p>
+ * The dictionary is part of the application, so it is the same on every member and
+ * client of the cluster, and a symbol always has the same serialized form, as is
+ * required for keys. New symbols must therefore only be added to the end of the
+ * dictionary. A symbol that is not in the dictionary is serialized as a string, in
+ * the property following its code.
+ * <p>
+ * Setting the {@value #ENABLED_PROPERTY} system property to {@code false} serializes
+ * the symbols of {@link Trade} values as strings, which are read in either form, so
+ * members may use different settings. The property does not apply to keys, such as
+ * {@link TradeId}, as a key must have the same serialized form on every member, so
+ * their symbols are always serialized using the dictionary.
+ */
+public final class SymbolDictionary {
+
+    /**
+     * The system property to enable serializing symbols as codes.
+     */
+    public static final String ENABLED_PROPERTY = "trade.symbol.dictionary";
+
+    /**
+     * The symbols, where the code of a symbol is its position plus one.
+     */
+    private static final List<String> SYMBOLS = List.of("ORCL", "MSFT", "GOOG", "AAPL", "NFLX", "DELL");
+
+    /**
+     * The code for each symbol.
+     */
+    private static final Map<String, Integer> CODES = new HashMap<>();
+
+    /**
+     * Flag indicating if the symbols of values are serialized as codes.
+     */
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+
+    static {
+        for (int i = 0; i < SYMBOLS.size(); i++) {
+            CODES.put(SYMBOLS.get(i), i + 1);
+        }
+    }
+
+    /**
+     * Instances not allowed.
+     */
+    private SymbolDictionary() {
+        throw new IllegalStateException("illegal instantiation");
+    }
+
+    /**
+     * Obtain the symbols in the dictionary.
+     *
+     * @return the symbols
+     */
+    public static List<String> getSymbols() {
+        return SYMBOLS;
+    }
+
+    /**
+     * Obtain the code for a symbol.
+     *
+     * @param symbol  the symbol
+     *
+     * @return the code, or {@code 0} if the symbol is not in the dictionary
+     */
+    public static int encode(String symbol) {
+        Integer code = symbol == null ? null : CODES.get(symbol);
+
+        return code == null ? 0 : code;
+    }
+
+    /**
+     * Obtain the symbol for a code.
+     *
+     * @param code  the code
+     *
+     * @return the symbol, which is the same instance for every {@link Trade}
+     *
+     * @throws IllegalArgumentException if the code is not in the dictionary
+     */
+    public static String decode(int code) {
+        if (code < 1 || code > SYMBOLS.size()) {
+            throw new IllegalArgumentException("Unknown symbol code " + code);
+        }
+
+        return SYMBOLS.get(code - 1);
+    }
+
+    /**
+     * Obtain an extractor that reads a symbol written by {@link #writeValueSymbol} directly
+     * from a POF encoded value, without deserializing the value.
+     * <p>
+     * The extractor is not serializable, so it may only be used on the member that
+     * created it, such as by a cache store.
+     *
+     * @param index  the index of the code, where the string uses the following index
+     *
+     * @return the extractor
+     */
+    public static ValueExtractor<Object, String> pofExtractor(int index) {
+        PofExtractor<Object, Integer> code   = new PofExtractor<>(Integer.class, index);
+        PofExtractor<Object, String>  string = new PofExtractor<>(String.class, index + 1);
+
+        return new AbstractExtractor<>() {
+            @Override
+            public String extractFromEntry(Map.Entry entry) {
+                Integer n = code.extractFromEntry(entry);
+
+                return n == null || n == 0 ? string.extractFromEntry(entry) : decode(n);
+            }
+        };
+    }
+
+    /**
+     * Write the symbol of a key as its code, or as a string if it is not in the dictionary,
+     * regardless of {@value #ENABLED_PROPERTY}, so the key has the same serialized form
+     * on every member.
+     *
+     * @param out     the {@link PofWriter}
+     * @param index   the index of the code, where the string uses the following index
+     * @param symbol  the symbol
+     *
+     * @throws IOException if the symbol could not be written
+     */
+    static void writeSymbol(PofWriter out, int index, String symbol) throws IOException {
+        writeSymbol(out, index, symbol, encode(symbol));
+    }
+
+    /**
+     * Write the symbol of a value as its code, or as a string if it is not in the dictionary
+     * or {@value #ENABLED_PROPERTY} is {@code false}.
+     *
+     * @param out     the {@link PofWriter}
+     * @param index   the index of the code, where the string uses the following index
+     * @param symbol  the symbol
+     *
+     * @throws IOException if the symbol could not be written
+     */
+    static void writeValueSymbol(PofWriter out, int index, String symbol) throws IOException {
+        writeSymbol(out, index, symbol, ENABLED ? encode(symbol) : 0);
+    }
+
+    /**
+     * Read a symbol written by {@link #writeSymbol} or {@link #writeValueSymbol}.
+     *
+     * @param in     the {@link PofReader}
+     * @param index  the index of the code, where the string uses the following index
+     *
+     * @return the symbol
+     *
+     * @throws IOException if the symbol could not be read
+     */
+    static String readSymbol(PofReader in, int index) throws IOException {
+        int code = in.readInt(index);
+
+        return code == 0 ? in.readString(index + 1) : decode(code);
+    }
+
+    /**
+     * Write a symbol as its code, or as a string if the code is zero.
+     *
+     * @param out     the {@link PofWriter}
+     * @param index   the index of the code, where the string uses the following index
+     * @param symbol  the symbol
+     * @param code    the code of the symbol, or zero to write the symbol as a string
+     *
+     * @throws IOException if the symbol could not be written
+     */
+    private static void writeSymbol(PofWriter out, int index, String symbol, int code) throws IOException {
+        if (code == 0) {
+            out.writeString(index + 1, symbol);
+        }
+        else {
+            out.writeInt(index, code);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * File: Trade.java
  *
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -18,11 +18,14 @@
 
 package com.oracle.coherence.demo.model;
 
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
 import com.tangosol.io.pof.PortableObject;
 
 import com.tangosol.io.pof.schema.annotation.PortableType;
-import com.tangosol.util.UUID;
 
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 
@@ -30,24 +33,58 @@ import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlRootElement;
 
+import java.io.IOException;
+
+import java.util.UUID;
+
 /**
  * An immutable class to represent a single position in a financial market for an equity (stock).
+ * <p>
+ * The identifier is serialized as a fixed 128-bit value when it is a canonical
+ * {@link UUID}, in the same way as in the {@link TradeId} key, so every {@link Trade}
+ * read from the cluster has its identifier. The symbol is serialized using the
+ * {@link SymbolDictionary}, and the POF indexes of the properties are available
+ * for {@link com.tangosol.util.extractor.PofExtractor}s.
  *
  * @author Brian Oliver
  */
 @Entity
+@Access(AccessType.FIELD)
 @XmlRootElement(name = "trade")
 @XmlAccessorType(XmlAccessType.PROPERTY)
 @PortableType(id = 1004)
-public class Trade {
+public class Trade
+        implements PortableObject {
     @SuppressWarnings("unused")
     private static final long serialVersionUID = -2557078539268609864L;
 
     /**
-     * The unique identifier for this trade.
+     * The POF index of the symbol code, which is followed by the symbol if it is
+     * not in the {@link SymbolDictionary}.
      */
-    @Id
-    private String id;
+    public static final int POF_SYMBOL = 0;
+
+    /**
+     * The POF index of the quantity.
+     */
+    public static final int POF_QUANTITY = 2;
+
+    /**
+     * The POF index of the price.
+     */
+    public static final int POF_PRICE = 3;
+
+    /**
+     * The POF index of the 128-bit identifier, which is followed by the identifier as a
+     * string if it is not a canonical {@link UUID}.
+     */
+    public static final int POF_ID = 4;
+
+    /**
+     * The unique identifier for this trade, which is transient so that JPA maps it
+     * using property access, and is serialized by {@link #writeExternal}.
+     */
+    private transient String id;
 
     /**
      * The symbol (ticker code) of the equity for the {@link Trade}.
@@ -83,7 +120,24 @@ public class Trade {
     public Trade(String symbol,
                  int quantity,
                  double price) {
-        this.id = new UUID().toString();
+        this(UUID.randomUUID().toString(), symbol, quantity, price);
+    }
+
+
+    /**
+     * Constructs a {@link Trade} with an existing identifier, such as when
+     * loading a {@link Trade} from a database.
+     *
+     * @param id        the unique identifier of the {@link Trade}
+     * @param symbol    symbol (ticker code) of the {@link Trade}
+     * @param quantity  number of shares (quantity) for the {@link Trade}
+     * @param price     price of the shares
+     */
+    public Trade(String id,
+                 String symbol,
+                 int quantity,
+                 double price) {
+        this.id = id;
         this.symbol = symbol;
         this.quantity = quantity;
         this.price = price;
@@ -95,11 +149,23 @@ public class Trade {
      *
      * @return the identifier
      */
+    @Id
+    @Access(AccessType.PROPERTY)
     public String getId() {
         return id;
     }
 
 
+    /**
+     * Set the unique identifier for the {@link Trade}, such as from its {@link TradeId}.
+     *
+     * @param id  the identifier
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
     /**
      * Obtain the symbol (ticker code) of the equity (stock) for the {@link Trade}.
      *
@@ -168,4 +234,31 @@ public class Trade {
         quantity *= factor;
         price /= factor;
     }
+
+
+    @Override
+    public void readExternal(PofReader in) throws IOException {
+        symbol = SymbolDictionary.readSymbol(in, POF_SYMBOL);
+        quantity = in.readInt(POF_QUANTITY);
+        price = in.readDouble(POF_PRICE);
+
+        byte[] abId = in.readByteArray(POF_ID);
+        id = abId == null ? in.readString(POF_ID + 1) : TradeId.fromBytes(abId);
+    }
+
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException {
+        SymbolDictionary.writeValueSymbol(out, POF_SYMBOL, symbol);
+        out.writeInt(POF_QUANTITY, quantity);
+        out.writeDouble(POF_PRICE, price);
+
+        byte[] abId = TradeId.toBytes(id);
+        if (abId == null) {
+            out.writeString(POF_ID + 1, id);
+        }
+        else {
+            out.writeByteArray(POF_ID, abId);
+        }
+    }
 }
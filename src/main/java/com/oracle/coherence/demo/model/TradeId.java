@@ -0,0 +1,299 @@
+/*
+ * File: TradeId.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.model;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+
+import com.tangosol.net.cache.KeyAssociation;
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The key of a {@link Trade}, which associates the {@link Trade} with its symbol.
+ * <p>
+ * The trades for a symbol are spread across a fixed number of buckets, and all the
+ * trades in a bucket are stored in the same partition. This means operations for a
+ * single symbol only need to target the partitions for its buckets, rather than
+ * every partition, while the trades are still distributed across the cluster.
+ * <p>
+ * The number of buckets is set using the {@value #BUCKETS_PROPERTY} system property,
+ * which must be the same on all members. Setting it to {@code 1} stores all the
+ * trades for a symbol in a single partition.
+ * <p>
+ * The identifier is a string, so that the REST services and the gRPC clients can
+ * use it as is, but a canonical (lower case) {@link UUID} is serialized as a fixed
+ * 128-bit value rather than its 36 characters. Any other identifier, such as those
+ * created by earlier versions, is serialized as a string, and can be replaced by a
+ * {@link UUID} using the {@link TradeIdMigrator}. The symbol is always serialized using
+ * the {@link SymbolDictionary}, whatever the {@value SymbolDictionary#ENABLED_PROPERTY}
+ * setting, so a {@link TradeId} has the same serialized form on every member.
+ */
+@PortableType(id = 1010)
+public class TradeId
+        implements KeyAssociation<String>, PortableObject {
+
+    /**
+     * The system property to set the number of buckets for each symbol.
+     */
+    public static final String BUCKETS_PROPERTY = "trade.affinity.buckets";
+
+    /**
+     * The number of buckets for each symbol.
+     */
+    public static final int BUCKETS = Integer.getInteger(BUCKETS_PROPERTY, 32);
+
+    /**
+     * The length of the string form of a {@link UUID}.
+     */
+    private static final int UUID_LENGTH = 36;
+
+    /**
+     * The symbol (ticker code) of the {@link Trade}.
+     */
+    private String symbol;
+
+    /**
+     * The bucket the {@link Trade} is in.
+     */
+    private int bucket;
+
+    /**
+     * The unique identifier of the {@link Trade}.
+     */
+    private String id;
+
+
+    /**
+     * Default Constructor (required and used only by {@link PortableObject}).
+     */
+    @SuppressWarnings("unused")
+    public TradeId() {
+        // required for Serializable and PortableObject
+    }
+
+
+    /**
+     * Constructs a {@link TradeId}, choosing the bucket from the identifier.
+     *
+     * @param symbol  the symbol (ticker code) of the {@link Trade}
+     * @param id      the unique identifier of the {@link Trade}
+     */
+    public TradeId(String symbol, String id) {
+        this(symbol, Math.floorMod(id.hashCode(), BUCKETS), id);
+    }
+
+
+    /**
+     * Constructs a {@link TradeId}.
+     *
+     * @param symbol  the symbol (ticker code) of the {@link Trade}
+     * @param bucket  the bucket the {@link Trade} is in
+     * @param id      the unique identifier of the {@link Trade}
+     */
+    public TradeId(String symbol, int bucket, String id) {
+        this.symbol = symbol;
+        this.bucket = bucket;
+        this.id = id;
+    }
+
+
+    /**
+     * Obtain the symbol (ticker code) of the {@link Trade}.
+     *
+     * @return the symbol
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+
+    /**
+     * Obtain the bucket the {@link Trade} is in.
+     *
+     * @return the bucket
+     */
+    public int getBucket() {
+        return bucket;
+    }
+
+
+    /**
+     * Obtain the unique identifier of the {@link Trade}.
+     *
+     * @return the identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * Determine if the identifier is serialized as a fixed 128-bit value.
+     *
+     * @return {@code true} if the identifier is a canonical {@link UUID}
+     */
+    public boolean isCompact() {
+        return toBytes(id) != null;
+    }
+
+
+    @Override
+    public String getAssociatedKey() {
+        return getAssociatedKey(symbol, bucket);
+    }
+
+
+    /**
+     * Obtain the key that the trades in a bucket for a symbol are associated with.
+     *
+     * @param symbol  the symbol (ticker code)
+     * @param bucket  the bucket
+     *
+     * @return the associated key
+     */
+    public static String getAssociatedKey(String symbol, int bucket) {
+        return symbol + '-' + bucket;
+    }
+
+
+    /**
+     * Obtain the keys that all the trades for a symbol are associated with.
+     *
+     * @param symbol  the symbol (ticker code)
+     *
+     * @return the associated keys
+     */
+    public static Set<String> getAssociatedKeys(String symbol) {
+        Set<String> setKeys = new LinkedHashSet<>();
+
+        for (int i = 0; i < BUCKETS; i++) {
+            setKeys.add(getAssociatedKey(symbol, i));
+        }
+
+        return setKeys;
+    }
+
+
+    @Override
+    public void readExternal(PofReader in) throws IOException {
+        symbol = SymbolDictionary.readSymbol(in, 0);
+        bucket = in.readInt(2);
+
+        byte[] abId = in.readByteArray(3);
+        id = abId == null ? in.readString(4) : fromBytes(abId);
+    }
+
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException {
+        SymbolDictionary.writeSymbol(out, 0, symbol);
+        out.writeInt(2, bucket);
+
+        byte[] abId = toBytes(id);
+        if (abId == null) {
+            out.writeString(4, id);
+        }
+        else {
+            out.writeByteArray(3, abId);
+        }
+    }
+
+
+    /**
+     * Obtain the 128-bit form of an identifier.
+     *
+     * @param id  the identifier
+     *
+     * @return the 16 bytes of the {@link UUID}, or {@code null} if the identifier
+     *         is not a canonical {@link UUID}
+     */
+    static byte[] toBytes(String id) {
+        if (id == null || id.length() != UUID_LENGTH) {
+            return null;
+        }
+
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        }
+        catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        // only identifiers that format back to the same string can be stored as 128 bits
+        if (!uuid.toString().equals(id)) {
+            return null;
+        }
+
+        return ByteBuffer.allocate(16)
+                         .putLong(uuid.getMostSignificantBits())
+                         .putLong(uuid.getLeastSignificantBits())
+                         .array();
+    }
+
+
+    /**
+     * Obtain the string form of a 128-bit identifier.
+     *
+     * @param abId  the 16 bytes of the {@link UUID}
+     *
+     * @return the identifier
+     */
+    static String fromBytes(byte[] abId) {
+        ByteBuffer buffer = ByteBuffer.wrap(abId);
+
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TradeId that = (TradeId) o;
+        return bucket == that.bucket && Objects.equals(symbol, that.symbol) && Objects.equals(id, that.id);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(symbol, bucket, id);
+    }
+
+
+    @Override
+    public String toString() {
+        return "TradeId{symbol=" + symbol + ", bucket=" + bucket + ", id=" + id + '}';
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * File: TradeIdMigrator.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.model;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+
+import java.util.UUID;
+
+/**
+ * An {@link InvocableMap.EntryProcessor} that replaces the {@link TradeId} of a
+ * {@link Trade} that does not have a compact identifier with one that has a new
+ * {@link UUID} identifier, in the same bucket.
+ * <p>
+ * As the new {@link TradeId} is associated with the same key, the {@link Trade} is
+ * moved within the partition that owns it, without being sent across the network.
+ * The cache store erases the old identifier and stores the new one.
+ */
+@PortableType(id = 1012)
+public class TradeIdMigrator
+        implements InvocableMap.EntryProcessor<TradeId, Trade, String> {
+
+    /**
+     * Construct a {@link TradeIdMigrator}.
+     */
+    public TradeIdMigrator() {
+        super();
+    }
+
+    @Override
+    public String process(InvocableMap.Entry<TradeId, Trade> entry) {
+        TradeId key = entry.getKey();
+        if (!entry.isPresent() || key.isCompact()) {
+            return null;
+        }
+
+        BinaryEntry<TradeId, Trade> binaryEntry = entry.asBinaryEntry();
+        TradeId newKey    = new TradeId(key.getSymbol(), key.getBucket(), UUID.randomUUID().toString());
+        Binary  binNewKey = (Binary) binaryEntry.getContext().getKeyToInternalConverter().convert(newKey);
+        Trade   trade     = entry.getValue();
+
+        trade.setId(newKey.getId());
+        binaryEntry.getBackingMapContext().getBackingMapEntry(binNewKey).setValue(trade);
+        entry.remove(false);
+
+        return newKey.getId();
+    }
+}
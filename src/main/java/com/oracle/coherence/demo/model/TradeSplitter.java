@@ -0,0 +1,130 @@
+/*
+ * File: TradeSplitter.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.model;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+
+import com.tangosol.util.Extractors;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.extractor.PofUpdater;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link InvocableMap.EntryProcessor} that splits a {@link Trade} by a factor,
+ * multiplying its quantity and dividing its price.
+ * <p>
+ * The quantity and price are read and updated directly in the POF encoded
+ * {@link Trade}, using {@link PofUpdater}s, rather than deserializing and
+ * reserializing each {@link Trade}.
+ * <p>
+ * Rather than a result for each {@link Trade}, the result for each partition
+ * is a single entry, whose value is the number of trades split in the partition.
+ */
+@PortableType(id = 1013)
+public class TradeSplitter
+        implements InvocableMap.EntryProcessor<TradeId, Trade, Integer> {
+
+    /**
+     * The extractor for the {@link Trade} quantity.
+     */
+    private static final ValueExtractor<Trade, Integer> QUANTITY = Extractors.fromPof(Integer.class, Trade.POF_QUANTITY);
+
+    /**
+     * The extractor for the {@link Trade} price.
+     */
+    private static final ValueExtractor<Trade, Double> PRICE = Extractors.fromPof(Double.class, Trade.POF_PRICE);
+
+    /**
+     * The updater for the {@link Trade} quantity.
+     */
+    private static final PofUpdater QUANTITY_UPDATER = new PofUpdater(Trade.POF_QUANTITY);
+
+    /**
+     * The updater for the {@link Trade} price.
+     */
+    private static final PofUpdater PRICE_UPDATER = new PofUpdater(Trade.POF_PRICE);
+
+    /**
+     * The split factor.
+     */
+    private int factor;
+
+    /**
+     * Construct a {@link TradeSplitter}.
+     */
+    public TradeSplitter() {
+        super();
+    }
+
+    /**
+     * Construct a {@link TradeSplitter}.
+     *
+     * @param factor  the split factor, e.g. 2 = 2:1
+     */
+    public TradeSplitter(int factor) {
+        this.factor = factor;
+    }
+
+    /**
+     * Obtain the split factor.
+     *
+     * @return the split factor
+     */
+    public int getFactor() {
+        return factor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Integer process(InvocableMap.Entry<TradeId, Trade> entry) {
+        if (!entry.isPresent()) {
+            return 0;
+        }
+
+        int    quantity = entry.extract(QUANTITY);
+        double price    = entry.extract(PRICE);
+
+        entry.update(QUANTITY_UPDATER, quantity * factor);
+        entry.update(PRICE_UPDATER, price / factor);
+
+        return 1;
+    }
+
+    @Override
+    public Map<TradeId, Integer> processAll(Set<? extends InvocableMap.Entry<TradeId, Trade>> setEntries) {
+        TradeId key   = null;
+        int     count = 0;
+
+        for (InvocableMap.Entry<TradeId, Trade> entry : setEntries) {
+            if (key == null) {
+                key = entry.getKey();
+            }
+
+            count += process(entry);
+        }
+
+        // a single result, keyed by any one of the trades, so the results from each partition are distinct
+        return key == null ? Collections.emptyMap() : Collections.singletonMap(key, count);
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * File: TradeSummary.java
  *
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -22,6 +22,8 @@ import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlRootElement;
 
+import java.util.Objects;
+
 /**
  * A class which represents summary information for trades.
  */
@@ -77,6 +79,18 @@ public class TradeSummary {
         this.purchaseValue += purchaseValue;
     }
 
+    /**
+     * Remove the quantity and purchase value from the summary.
+     *
+     * @param quantity  total number of shares acquired for the {@link Trade}
+     * @param purchaseValue total purchase valuation
+     */
+    public void remove(long quantity, double purchaseValue) {
+        this.quantity -= quantity;
+        this.count--;
+        this.purchaseValue -= purchaseValue;
+    }
+
     /**
      * Combine the given {@link TradeSummary} with this one.
      *
@@ -141,4 +155,22 @@ public class TradeSummary {
     public void setPurchaseValue(double purchaseValue) {
         this.purchaseValue = purchaseValue;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TradeSummary that = (TradeSummary) o;
+        return quantity == that.quantity && count == that.count
+               && Double.compare(purchaseValue, that.purchaseValue) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(quantity, count, purchaseValue);
+    }
 }
@@ -1,7 +1,7 @@
 /*
  * File: TradeSummaryAggregator.java
  *
- * Copyright (c) 2015, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -26,7 +26,7 @@ import com.tangosol.util.InvocableMap;
  */
 @PortableType(id = 1006)
 public class TradeSummaryAggregator
-        implements InvocableMap.StreamingAggregator<String, Trade, TradeSummary, TradeSummary> {
+        implements InvocableMap.StreamingAggregator<TradeId, Trade, TradeSummary, TradeSummary> {
 
     /**
      * The trade summary.
@@ -42,12 +42,12 @@ public class TradeSummaryAggregator
     }
 
     @Override
-    public InvocableMap.StreamingAggregator<String, Trade, TradeSummary, TradeSummary> supply() {
+    public InvocableMap.StreamingAggregator<TradeId, Trade, TradeSummary, TradeSummary> supply() {
         return new TradeSummaryAggregator();
     }
 
     @Override
-    public boolean accumulate(InvocableMap.Entry<? extends String, ? extends Trade> entry) {
+    public boolean accumulate(InvocableMap.Entry<? extends TradeId, ? extends Trade> entry) {
         tradeSummary.add(entry.extract(Trade::getQuantity), entry.extract(Trade::getPurchaseValue));
         return true;
     }
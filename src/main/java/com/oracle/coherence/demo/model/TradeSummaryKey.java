@@ -0,0 +1,111 @@
+/*
+ * File: TradeSummaryKey.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.model;
+
+import com.tangosol.io.pof.PortableObject;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+
+import com.tangosol.net.partition.PartitionAwareKey;
+
+import java.util.Objects;
+
+/**
+ * The key of a partition-local {@link TradeSummary} for a single symbol.
+ * <p>
+ * As the key is {@link PartitionAwareKey partition aware}, the summary is always
+ * stored in the same partition as the {@link Trade}s it summarises, which allows
+ * it to be maintained within the same partition transaction as the trades.
+ */
+@PortableType(id = 1007)
+public class TradeSummaryKey
+        implements PartitionAwareKey {
+
+    /**
+     * The symbol (ticker code) being summarised.
+     */
+    private String symbol;
+
+    /**
+     * The partition the summary is for.
+     */
+    private int partition;
+
+
+    /**
+     * Default Constructor (required and used only by {@link PortableObject}).
+     */
+    @SuppressWarnings("unused")
+    public TradeSummaryKey() {
+        // required for Serializable and PortableObject
+    }
+
+
+    /**
+     * Constructs a {@link TradeSummaryKey}.
+     *
+     * @param symbol     the symbol (ticker code) being summarised
+     * @param partition  the partition the summary is for
+     */
+    public TradeSummaryKey(String symbol, int partition) {
+        this.symbol = symbol;
+        this.partition = partition;
+    }
+
+
+    /**
+     * Obtain the symbol (ticker code) being summarised.
+     *
+     * @return the symbol
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+
+    @Override
+    public int getPartitionId() {
+        return partition;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TradeSummaryKey that = (TradeSummaryKey) o;
+        return partition == that.partition && Objects.equals(symbol, that.symbol);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(symbol, partition);
+    }
+
+
+    @Override
+    public String toString() {
+        return "TradeSummaryKey{symbol=" + symbol + ", partition=" + partition + '}';
+    }
+}
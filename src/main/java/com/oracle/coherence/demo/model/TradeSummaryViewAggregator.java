@@ -0,0 +1,94 @@
+/*
+ * File: TradeSummaryViewAggregator.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.model;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+import com.tangosol.util.InvocableMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An aggregator to combine the partition-local {@link TradeSummary}s into a single
+ * {@link TradeSummary} per symbol.
+ * <p>
+ * The cost of this aggregator depends on the number of partitions and symbols,
+ * rather than the number of trades.
+ */
+@PortableType(id = 1008)
+public class TradeSummaryViewAggregator
+        implements InvocableMap.StreamingAggregator<TradeSummaryKey, TradeSummary,
+                                                    Map<String, TradeSummary>, Map<String, TradeSummary>> {
+
+    /**
+     * The trade summary for each symbol.
+     */
+    private transient Map<String, TradeSummary> mapSummary;
+
+    /**
+     * Construct a {@link TradeSummaryViewAggregator}.
+     */
+    public TradeSummaryViewAggregator() {
+        super();
+        this.mapSummary = new HashMap<>();
+    }
+
+    @Override
+    public InvocableMap.StreamingAggregator<TradeSummaryKey, TradeSummary,
+                                           Map<String, TradeSummary>, Map<String, TradeSummary>> supply() {
+        return new TradeSummaryViewAggregator();
+    }
+
+    @Override
+    public boolean accumulate(InvocableMap.Entry<? extends TradeSummaryKey, ? extends TradeSummary> entry) {
+        add(entry.getKey().getSymbol(), entry.getValue());
+        return true;
+    }
+
+    @Override
+    public boolean combine(Map<String, TradeSummary> mapPartial) {
+        mapPartial.forEach(this::add);
+        return true;
+    }
+
+    @Override
+    public Map<String, TradeSummary> getPartialResult() {
+        return mapSummary;
+    }
+
+    @Override
+    public Map<String, TradeSummary> finalizeResult() {
+        return mapSummary;
+    }
+
+    @Override
+    public int characteristics() {
+        return PARALLEL | PRESENT_ONLY;
+    }
+
+    /**
+     * Add the given {@link TradeSummary} to the summary for a symbol.
+     *
+     * @param symbol   the symbol
+     * @param summary  the {@link TradeSummary} to add
+     */
+    private void add(String symbol, TradeSummary summary) {
+        mapSummary.computeIfAbsent(symbol, s -> new TradeSummary()).combine(summary);
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * File: controllers.js
  *
- * Copyright (c) 2019, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * You may not use this file except in compliance with the Universal Permissive
  * License (UPL), Version 1.0 (the "License.")
@@ -259,133 +259,197 @@ demoApp.controller('DemoController', ['$scope', '$http', '$interval', '$location
 
     self.refresh = function() {
         // refresh the application state when the chart-data is returned
-        $http.get('/service/chart-data/' + self.portfolioRefresh.enabled).then(function (response) {
+        $http.get('/service/chart-data/false').then(function (response) {
+            self.chartData = response.data;
+            self.applyChartData(angular.copy(response.data));
+        });
+    };
 
-            let chartData = response.data;
+    // ---- the function to merge the chart-data published by the server ----
 
-            let tradeSummary = chartData.tradeSummary;
-            self.symbolNames = Object.keys(tradeSummary).sort((i1, i2) => i1[1].localeCompare(i2[1]));
-            self.symbolsChartData = [];
-            self.symbolQuantity = {};
-            self.symbolCount = {};
+    self.mergeChartData = function(update) {
+        if (update.full) {
+            self.chartData = {tradeSummary: {}, currentPrice: {}};
+        }
+        else if (self.chartData === undefined) {
+            // we missed the complete chart-data, so request it
+            self.refresh();
+            return;
+        }
 
-            let valuationTotal = 0;
+        // only the symbols that have changed are published
+        angular.extend(self.chartData.tradeSummary, update.tradeSummary);
+        angular.extend(self.chartData.currentPrice, update.currentPrice);
+        update.removedSymbols.forEach(function(symbol) {
+            delete self.chartData.tradeSummary[symbol];
+        });
 
-            // on first time, set the last price to the current
-            if (self.firstRefresh) {
-                self.lastPrice = chartData.currentPrice;
-            }
+        self.chartData.instant             = update.instant;
+        self.chartData.aggregationDuration = update.aggregationDuration;
+        self.chartData.memberInfo          = update.memberInfo;
+
+        // apply a copy, as the last prices are compared with the current prices
+        self.applyChartData({
+            instant:             update.instant,
+            aggregationDuration: update.aggregationDuration,
+            memberInfo:          update.memberInfo,
+            tradeSummary:        Object.assign({}, self.chartData.tradeSummary),
+            currentPrice:        Object.assign({}, self.chartData.currentPrice)
+        });
+    };
 
-            let quantitySum = 0;
-            let positionCount = 0;
+    // ---- the function to subscribe to the chart-data published by the server ----
 
-            for (const symbolName of self.symbolNames) {
-                // frequency
-                let quantity   = tradeSummary[symbolName].quantity;
-                quantitySum    += quantity
+    self.subscribeChartData = function() {
+        // the prices are updated on each tick while any subscriber asks for them to be
+        self.chartDataSource = new EventSource('/service/events/chart-data?priceUpdates=' + self.portfolioRefresh.enabled);
 
-                self.symbolQuantity[symbolName] = quantity;
+        self.chartDataSource.addEventListener('chartData', function (event) {
+            self.$apply(function() {
+                self.mergeChartData(JSON.parse(event.data));
+            });
+        });
 
-                let count = tradeSummary[symbolName].count
-                positionCount += count;
-                self.symbolCount[symbolName] = count;
+        self.chartDataSource.onerror = function (error) {
+            // the browser reconnects automatically, and is then sent the complete chart-data
+            console.error("Chart data EventSource failed:", error);
+        };
+    };
 
-                // get the current price and determine the amount
-                let amount = quantity * chartData.currentPrice[symbolName];
-                valuationTotal += amount
+    // ---- the function to unsubscribe from the chart-data published by the server ----
 
-                // calculate the delta
-                self.priceChange[symbolName] = chartData.currentPrice[symbolName] - self.lastPrice[symbolName];
+    self.unsubscribeChartData = function() {
+        if (angular.isDefined(self.chartDataSource)) {
+            self.chartDataSource.close();
+            self.chartDataSource = undefined;
+        }
+    };
 
-                self.symbolsChartData.push({"label":symbolName, "value": amount});
-            }
+    // ---- the function to apply the chart-data to the application state ----
 
-            // check to see if the valuation went up or down
-            self.valuationDirection = valuationTotal === self.valuation ? 'N/A' :
-                                      valuationTotal >   self.valuation ? 'up'  : 'down';
+    self.applyChartData = function(chartData) {
+        let tradeSummary = chartData.tradeSummary;
+        self.symbolNames = Object.keys(tradeSummary).sort((i1, i2) => i1[1].localeCompare(i2[1]));
+        self.symbolsChartData = [];
+        self.symbolQuantity = {};
+        self.symbolCount = {};
 
-            self.valuationStyle = 'color: ' +
-                (self.valuationDirection === 'N/A' ? "'black'" :
-                 self.valuationDirection === 'up'  ? "'dark-green;" : "'red'") + ';';
+        let valuationTotal = 0;
 
-            // update the valuation
-            self.valuation     = valuationTotal;
-            self.totalQuantity = quantitySum;
-            self.currentPrice  = chartData.currentPrice;
+        // on first time, set the last price to the current
+        if (self.firstRefresh) {
+            self.lastPrice = chartData.currentPrice;
+        }
 
-            // update the total positions
-            self.positions = positionCount;
+        let quantitySum = 0;
+        let positionCount = 0;
 
-            // save the last price
-            self.lastPrice = chartData.currentPrice;
+        for (const symbolName of self.symbolNames) {
+            // frequency
+            let quantity   = tradeSummary[symbolName].quantity;
+            quantitySum    += quantity
 
-            // store the latest member information (sorted by member)
-            self.memberInfo = chartData.memberInfo.sort(function(m1, m2) {
-                return m1.id - m2.id;
-            });
+            self.symbolQuantity[symbolName] = quantity;
 
-            let currentMemberCount = (self.memberInfo.length !== undefined ? self.memberInfo.length : 0);
+            let count = tradeSummary[symbolName].count
+            positionCount += count;
+            self.symbolCount[symbolName] = count;
 
-            // check to see if member count has changed
-            if (self.lastMemberCount !== undefined && self.lastMemberCount !== currentMemberCount) {
-                self.displayNotification('Member count changed from ' + self.lastMemberCount + ' to ' + currentMemberCount,'info', true);
-            }
-            self.lastMemberCount = currentMemberCount;
+            // get the current price and determine the amount
+            let amount = quantity * chartData.currentPrice[symbolName];
+            valuationTotal += amount
 
-            // update the member-info based charts
-            let newData = [];
-            self.memberInfo.forEach(function(member) {
-                newData.push({ memberId: member.id, entryCount: member.entryCount });
-            });
-            distributionChart.setData(newData);
+            // calculate the delta
+            self.priceChange[symbolName] = chartData.currentPrice[symbolName] - self.lastPrice[symbolName];
 
-            // add the latest performance data (truncate first if required)
-            if (self.aggregationChartData.length > self.MAXIMUM_AGGREGATION_TICKS) {
-                self.aggregationChartData.shift();
-            }
+            self.symbolsChartData.push({"label":symbolName, "value": amount});
+        }
 
-            self.aggregationChartData.push({timestamp: chartData.instant, aggregationTime: chartData.aggregationDuration});
-            aggregationChart.setData(self.aggregationChartData);
+        // check to see if the valuation went up or down
+        self.valuationDirection = valuationTotal === self.valuation ? 'N/A' :
+                                  valuationTotal >   self.valuation ? 'up'  : 'down';
 
-            // determine rolling average
-            let totalAggregation = 0;
-            self.aggregationChartData.forEach(function(entry) {
-                totalAggregation += entry.aggregationTime;
-            });
-            self.averageQueryTime = Math.round(totalAggregation / self.aggregationChartData.length);
-
-            // update "messages sent" graph only if federation enabled
-            if (self.secondaryCluster === 'enabled') {
-                $http.get('/service/jmx/query/Coherence:type=Federation,name=' + self.secondaryClusterName +
-                    ',subType=Destination,*/TotalBytesSent').then(function(response) {
-                    let data           = response.data;
-                    let totalBytesSent = 0;
-                    data.forEach(function(values) {
-                        totalBytesSent += values.attributes.TotalBytesSent;
-                    });
-                    self.currentBytesSent = totalBytesSent;
-                });
+        self.valuationStyle = 'color: ' +
+            (self.valuationDirection === 'N/A' ? "'black'" :
+             self.valuationDirection === 'up'  ? "'dark-green;" : "'red'") + ';';
 
-                if (self.lastBytesSent === -1) {
-                    self.lastBytesSent = self.currentBytesSent;
-                }
+        // update the valuation
+        self.valuation     = valuationTotal;
+        self.totalQuantity = quantitySum;
+        self.currentPrice  = chartData.currentPrice;
 
-                let deltaMessages = self.currentBytesSent - self.lastBytesSent;
+        // update the total positions
+        self.positions = positionCount;
 
-                // add value to federation graph
-                self.bytesSentData.push({timestamp: new Date().getMilliseconds(), bytes: deltaMessages < 0 ? 0 : deltaMessages});
+        // save the last price
+        self.lastPrice = chartData.currentPrice;
 
-                // ensure graph lengths stays constant
-                if (self.bytesSentData.length > self.MAX_SPARKLINE) {
-                    self.bytesSentData = self.bytesSentData.splice(1);
-                }
+        // store the latest member information (sorted by member)
+        self.memberInfo = chartData.memberInfo.sort(function(m1, m2) {
+            return m1.id - m2.id;
+        });
+
+        let currentMemberCount = (self.memberInfo.length !== undefined ? self.memberInfo.length : 0);
+
+        // check to see if member count has changed
+        if (self.lastMemberCount !== undefined && self.lastMemberCount !== currentMemberCount) {
+            self.displayNotification('Member count changed from ' + self.lastMemberCount + ' to ' + currentMemberCount,'info', true);
+        }
+        self.lastMemberCount = currentMemberCount;
+
+        // update the member-info based charts
+        let newData = [];
+        self.memberInfo.forEach(function(member) {
+            newData.push({ memberId: member.id, entryCount: member.entryCount });
+        });
+        distributionChart.setData(newData);
+
+        // add the latest performance data (truncate first if required)
+        if (self.aggregationChartData.length > self.MAXIMUM_AGGREGATION_TICKS) {
+            self.aggregationChartData.shift();
+        }
+
+        self.aggregationChartData.push({timestamp: chartData.instant, aggregationTime: chartData.aggregationDuration});
+        aggregationChart.setData(self.aggregationChartData);
 
+        // determine rolling average
+        let totalAggregation = 0;
+        self.aggregationChartData.forEach(function(entry) {
+            totalAggregation += entry.aggregationTime;
+        });
+        self.averageQueryTime = Math.round(totalAggregation / self.aggregationChartData.length);
+
+        // update "messages sent" graph only if federation enabled
+        if (self.secondaryCluster === 'enabled') {
+            $http.get('/service/jmx/query/Coherence:type=Federation,name=' + self.secondaryClusterName +
+                ',subType=Destination,*/TotalBytesSent').then(function(response) {
+                let data           = response.data;
+                let totalBytesSent = 0;
+                data.forEach(function(values) {
+                    totalBytesSent += values.attributes.TotalBytesSent;
+                });
+                self.currentBytesSent = totalBytesSent;
+            });
+
+            if (self.lastBytesSent === -1) {
                 self.lastBytesSent = self.currentBytesSent;
-                federationChart.setData(self.bytesSentData) ;
             }
 
-            self.firstRefresh = false;
-        });
+            let deltaMessages = self.currentBytesSent - self.lastBytesSent;
+
+            // add value to federation graph
+            self.bytesSentData.push({timestamp: new Date().getMilliseconds(), bytes: deltaMessages < 0 ? 0 : deltaMessages});
+
+            // ensure graph lengths stays constant
+            if (self.bytesSentData.length > self.MAX_SPARKLINE) {
+                self.bytesSentData = self.bytesSentData.splice(1);
+            }
+
+            self.lastBytesSent = self.currentBytesSent;
+            federationChart.setData(self.bytesSentData) ;
+        }
+
+        self.firstRefresh = false;
     };
 
     // ---- the function to enable/disable tracing for a specific member ----
@@ -1018,6 +1082,10 @@ demoApp.controller('DemoController', ['$scope', '$http', '$interval', '$location
 
     self.updatePortfolio = function(enabled) {
         self.portfolioRefresh.enabled = enabled;
+
+        // subscribe again, asking for the prices to be updated or not
+        self.unsubscribeChartData();
+        self.subscribeChartData();
     };
 
     // ---- the function to toggle whether indexes are used ----
@@ -1042,27 +1110,15 @@ demoApp.controller('DemoController', ['$scope', '$http', '$interval', '$location
     // ---- the application lifecycle events ----
 
     $scope.$on('$destroy', function() {
-        // stop the portfolio updates
-        self.updatePortfolio(false);
-
-        // cancel the background refresh
-        if (angular.isDefined(self.refreshPromise)) {
-            $interval.cancel(self.refreshPromise);
-            self.refreshPromise = undefined;
-        }
+        // stop receiving the chart-data, which also stops the price updates this subscriber asked for
+        self.unsubscribeChartData();
     });
 
     // ---- start the application ----
 
-    // perform an initial refresh of application state
-    self.refresh();
-
-    // start / stop the portfolio updates
-    self.updatePortfolio(false);
-
     // load the demo insight content
     self.loadInsightContent();
 
-    // schedule application state to be refreshed
-    self.refreshPromise = $interval(self.refresh, 5000);
+    // receive the application state as it is published by the server
+    self.subscribeChartData();
 }]);
\ No newline at end of file
@@ -0,0 +1,114 @@
+/*
+ * File: JdbcCacheStoreTest.java
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * You may not use this file except in compliance with the Universal Permissive
+ * License (UPL), Version 1.0 (the "License.")
+ *
+ * You may obtain a copy of the License at https://opensource.org/licenses/UPL.
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied.
+ *
+ * See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.oracle.coherence.demo.cachestore;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the handling of batch update counts by the {@link JdbcCacheStore}.
+ */
+class JdbcCacheStoreTest {
+    @Test
+    void shouldInsertRowsThatWereNotUpdated() throws SQLException {
+        List<String> listMissing = JdbcCacheStore.getMissingRows(statement(Map.of()),
+                                                                 List.of("a", "b", "c"),
+                                                                 new int[] {1, 0, 1},
+                                                                 (statement, row) -> {});
+
+        assertEquals(List.of("b"), listMissing);
+    }
+
+    @Test
+    void shouldUpdateRowsAgainWhenTheDriverReportsNoCounts() throws SQLException {
+        List<String>      listBound = new ArrayList<>();
+        PreparedStatement update    = statement(Map.of("b", 1, "c", 0, "d", 0));
+
+        List<String> listMissing = JdbcCacheStore.getMissingRows(update,
+                                                                 List.of("a", "b", "c", "d"),
+                                                                 new int[] {1,
+                                                                            Statement.SUCCESS_NO_INFO,
+                                                                            Statement.SUCCESS_NO_INFO,
+                                                                            Statement.SUCCESS_NO_INFO},
+                                                                 (statement, row) -> {
+                                                                     listBound.add(row);
+                                                                     ((Row) statement).bind(row);
+                                                                 });
+
+        assertEquals(List.of("b", "c", "d"), listBound);
+        assertEquals(List.of("c", "d"), listMissing);
+    }
+
+    @Test
+    void shouldFailWhenAStatementInTheBatchFailed() {
+        assertThrows(SQLException.class,
+                     () -> JdbcCacheStore.getMissingRows(statement(Map.of()),
+                                                         List.of("a", "b"),
+                                                         new int[] {1, Statement.EXECUTE_FAILED},
+                                                         (statement, row) -> {}));
+    }
+
+    /**
+     * Create a {@link PreparedStatement} that, when executed on its own, returns the
+     * update count for the last row bound to it.
+     *
+     * @param counts  the update count for each row
+     *
+     * @return the statement
+     */
+    private static PreparedStatement statement(Map<String, Integer> counts) {
+        String[] bound = new String[1];
+
+        return (PreparedStatement) Proxy.newProxyInstance(
+                JdbcCacheStoreTest.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class, Row.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "bind" -> {
+                        bound[0] = (String) args[0];
+                        yield null;
+                    }
+                    case "executeUpdate" -> counts.get(bound[0]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Binds a row to the test {@link PreparedStatement}.
+     */
+    public interface Row {
+        /**
+         * Bind a row.
+         *
+         * @param row  the row
+         */
+        void bind(String row);
+    }
+}